@@ -1,5 +1,6 @@
 package com.barber.common.domain.event;
 
+import com.barber.common.domain.valueobject.ScheduledTimeSlot;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -15,6 +16,8 @@ import java.time.LocalDateTime;
  * Event Data:
  * - appointmentId: The ID of the cancelled appointment
  * - cancelledBy: User ID who cancelled the appointment
+ * - barberProfileId: Barber whose time slot is released
+ * - timeSlot: The released time slot
  * - reason: Reason for cancellation (optional)
  * - occurredOn: When the cancellation occurred
  */
@@ -25,12 +28,16 @@ public class AppointmentCancelled implements DomainEvent {
 
     private final Long appointmentId;
     private final Long cancelledBy;
+    private final Long barberProfileId;
+    private final ScheduledTimeSlot timeSlot;
     private final String reason;
     private final LocalDateTime occurredOn;
 
     public AppointmentCancelled(
             Long appointmentId,
             Long cancelledBy,
+            Long barberProfileId,
+            ScheduledTimeSlot timeSlot,
             String reason,
             LocalDateTime occurredOn
     ) {
@@ -40,9 +47,17 @@ public class AppointmentCancelled implements DomainEvent {
         if (cancelledBy == null) {
             throw new IllegalArgumentException("Cancelled by user ID cannot be null");
         }
+        if (barberProfileId == null) {
+            throw new IllegalArgumentException("Barber profile ID cannot be null");
+        }
+        if (timeSlot == null) {
+            throw new IllegalArgumentException("Time slot cannot be null");
+        }
 
         this.appointmentId = appointmentId;
         this.cancelledBy = cancelledBy;
+        this.barberProfileId = barberProfileId;
+        this.timeSlot = timeSlot;
         this.reason = reason;
         this.occurredOn = occurredOn != null ? occurredOn : LocalDateTime.now();
     }
@@ -53,11 +68,15 @@ public class AppointmentCancelled implements DomainEvent {
     public static AppointmentCancelled now(
             Long appointmentId,
             Long cancelledBy,
+            Long barberProfileId,
+            ScheduledTimeSlot timeSlot,
             String reason
     ) {
         return new AppointmentCancelled(
             appointmentId,
             cancelledBy,
+            barberProfileId,
+            timeSlot,
             reason,
             LocalDateTime.now()
         );
@@ -1,5 +1,6 @@
 package com.barber.common.domain.event;
 
+import com.barber.common.domain.valueobject.ScheduledTimeSlot;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -19,6 +20,7 @@ import java.time.LocalDateTime;
  * - appointmentId: The ID of the completed appointment
  * - customerId: Customer who attended the appointment
  * - barberProfileId: Barber who provided the service
+ * - timeSlot: When the appointment took place
  * - occurredOn: When the appointment was marked as completed
  */
 @Getter
@@ -29,12 +31,14 @@ public class AppointmentCompleted implements DomainEvent {
     private final Long appointmentId;
     private final Long customerId;
     private final Long barberProfileId;
+    private final ScheduledTimeSlot timeSlot;
     private final LocalDateTime occurredOn;
 
     public AppointmentCompleted(
             Long appointmentId,
             Long customerId,
             Long barberProfileId,
+            ScheduledTimeSlot timeSlot,
             LocalDateTime occurredOn
     ) {
         if (appointmentId == null) {
@@ -46,10 +50,14 @@ public class AppointmentCompleted implements DomainEvent {
         if (barberProfileId == null) {
             throw new IllegalArgumentException("Barber profile ID cannot be null");
         }
+        if (timeSlot == null) {
+            throw new IllegalArgumentException("Time slot cannot be null");
+        }
 
         this.appointmentId = appointmentId;
         this.customerId = customerId;
         this.barberProfileId = barberProfileId;
+        this.timeSlot = timeSlot;
         this.occurredOn = occurredOn != null ? occurredOn : LocalDateTime.now();
     }
 
@@ -59,12 +67,14 @@ public class AppointmentCompleted implements DomainEvent {
     public static AppointmentCompleted now(
             Long appointmentId,
             Long customerId,
-            Long barberProfileId
+            Long barberProfileId,
+            ScheduledTimeSlot timeSlot
     ) {
         return new AppointmentCompleted(
             appointmentId,
             customerId,
             barberProfileId,
+            timeSlot,
             LocalDateTime.now()
         );
     }
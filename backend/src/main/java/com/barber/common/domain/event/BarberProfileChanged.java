@@ -0,0 +1,48 @@
+package com.barber.common.domain.event;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * DOMAIN EVENT: BarberProfileChanged
+ *
+ * Published when data shown in barber listings changes: approval status,
+ * rating, profile details or the service catalog.
+ * Read models built from barber profiles must refresh the barber.
+ *
+ * Event Data:
+ * - barberProfileId: Barber whose profile changed
+ * - occurredOn: When the change happened
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class BarberProfileChanged implements DomainEvent {
+
+    private final Long barberProfileId;
+    private final LocalDateTime occurredOn;
+
+    public BarberProfileChanged(Long barberProfileId, LocalDateTime occurredOn) {
+        if (barberProfileId == null) {
+            throw new IllegalArgumentException("Barber profile ID cannot be null");
+        }
+
+        this.barberProfileId = barberProfileId;
+        this.occurredOn = occurredOn != null ? occurredOn : LocalDateTime.now();
+    }
+
+    /**
+     * Factory method for creating event
+     */
+    public static BarberProfileChanged now(Long barberProfileId) {
+        return new BarberProfileChanged(barberProfileId, LocalDateTime.now());
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+}
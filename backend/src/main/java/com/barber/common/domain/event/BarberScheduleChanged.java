@@ -0,0 +1,48 @@
+package com.barber.common.domain.event;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * DOMAIN EVENT: BarberScheduleChanged
+ *
+ * Published when a barber's schedule changes in a way that is not tied to a single
+ * appointment, e.g. the weekly working hours are replaced.
+ * Anything derived from the barber's schedule must be recomputed.
+ *
+ * Event Data:
+ * - barberProfileId: Barber whose schedule changed
+ * - occurredOn: When the change happened
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class BarberScheduleChanged implements DomainEvent {
+
+    private final Long barberProfileId;
+    private final LocalDateTime occurredOn;
+
+    public BarberScheduleChanged(Long barberProfileId, LocalDateTime occurredOn) {
+        if (barberProfileId == null) {
+            throw new IllegalArgumentException("Barber profile ID cannot be null");
+        }
+
+        this.barberProfileId = barberProfileId;
+        this.occurredOn = occurredOn != null ? occurredOn : LocalDateTime.now();
+    }
+
+    /**
+     * Factory method for creating event
+     */
+    public static BarberScheduleChanged now(Long barberProfileId) {
+        return new BarberScheduleChanged(barberProfileId, LocalDateTime.now());
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+}
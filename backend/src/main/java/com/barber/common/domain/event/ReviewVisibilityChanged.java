@@ -0,0 +1,76 @@
+package com.barber.common.domain.event;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * DOMAIN EVENT: ReviewVisibilityChanged
+ *
+ * Published when a review is hidden from or shown again in public view.
+ * Only visible reviews count toward the barber's rating, so this event
+ * removes the review's rating from, or adds it back to, the barber's totals.
+ *
+ * Event Data:
+ * - reviewId: The review whose visibility changed
+ * - barberProfileId: Barber the review belongs to
+ * - rating: The review's rating (1-5)
+ * - reviewedAt: When the review was originally submitted
+ * - visible: Whether the review is visible now
+ * - occurredOn: When the visibility changed
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ReviewVisibilityChanged implements DomainEvent {
+
+    private final Long reviewId;
+    private final Long barberProfileId;
+    private final int rating;
+    private final LocalDateTime reviewedAt;
+    private final boolean visible;
+    private final LocalDateTime occurredOn;
+
+    public ReviewVisibilityChanged(
+            Long reviewId,
+            Long barberProfileId,
+            int rating,
+            LocalDateTime reviewedAt,
+            boolean visible,
+            LocalDateTime occurredOn
+    ) {
+        if (reviewId == null) {
+            throw new IllegalArgumentException("Review ID cannot be null");
+        }
+        if (barberProfileId == null) {
+            throw new IllegalArgumentException("Barber profile ID cannot be null");
+        }
+
+        this.reviewId = reviewId;
+        this.barberProfileId = barberProfileId;
+        this.rating = rating;
+        this.reviewedAt = reviewedAt;
+        this.visible = visible;
+        this.occurredOn = occurredOn != null ? occurredOn : LocalDateTime.now();
+    }
+
+    /**
+     * Factory method for creating event
+     */
+    public static ReviewVisibilityChanged now(
+            Long reviewId,
+            Long barberProfileId,
+            int rating,
+            LocalDateTime reviewedAt,
+            boolean visible
+    ) {
+        return new ReviewVisibilityChanged(reviewId, barberProfileId, rating, reviewedAt, visible, LocalDateTime.now());
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+}
@@ -1,5 +1,7 @@
 package com.barber.common.domain.valueobject;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -28,6 +30,8 @@ public class Rating {
     public static final Rating FOUR_STARS = new Rating(4);
     public static final Rating FIVE_STARS = new Rating(5);
 
+    // Serialized as the plain star count, e.g. in stored domain events
+    @JsonValue
     private final int value;
 
     /**
@@ -49,6 +53,7 @@ public class Rating {
     /**
      * Create a Rating from integer, using constants for common values
      */
+    @JsonCreator
     public static Rating of(int value) {
         return switch (value) {
             case 1 -> ONE_STAR;
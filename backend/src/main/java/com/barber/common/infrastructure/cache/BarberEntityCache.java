@@ -0,0 +1,129 @@
+package com.barber.common.infrastructure.cache;
+
+import com.barber.common.domain.event.BarberProfileChanged;
+import com.barber.common.domain.event.BarberScheduleChanged;
+import com.barber.common.infrastructure.event.BroadcastDomainEvent;
+import com.barber.common.infrastructure.event.ProjectionResyncRequested;
+import com.barber.entity.BarberProfile;
+import com.barber.entity.Service;
+import com.barber.entity.WorkingHours;
+import com.barber.repository.ServiceRepository;
+import com.barber.repository.WorkingHoursRepository;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * INFRASTRUCTURE: BarberEntityCache
+ *
+ * Keeps Hibernate's second-level cache of the barber aggregate (profile, services, working hours
+ * and the catalog query region) coherent across instances.
+ *
+ * - Each instance caches locally, so writes made elsewhere only reach it through the outbox broadcast
+ * - A barber's cached profile, collections, services and working hours are evicted when a
+ *   {@link BarberProfileChanged} or {@link BarberScheduleChanged} broadcast arrives, before the
+ *   schedule cache and read model reload from them
+ * - Reads that must not act on another instance's stale copy (bookings, schedule snapshots,
+ *   revision-tagged responses) bypass the cache for their unit of work
+ */
+@Component
+@Slf4j
+public class BarberEntityCache {
+
+    private static final String CATALOG_QUERY_REGION = "barber-catalog-queries";
+
+    private static final String SERVICES_ROLE = BarberProfile.class.getName() + ".services";
+    private static final String WORKING_HOURS_ROLE = BarberProfile.class.getName() + ".workingHours";
+
+    private final Cache cache;
+    private final EntityManager entityManager;
+    private final ServiceRepository serviceRepository;
+    private final WorkingHoursRepository workingHoursRepository;
+    private final TransactionTemplate readTransaction;
+
+    public BarberEntityCache(EntityManagerFactory entityManagerFactory,
+                             EntityManager entityManager,
+                             ServiceRepository serviceRepository,
+                             WorkingHoursRepository workingHoursRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.entityManager = entityManager;
+        this.serviceRepository = serviceRepository;
+        this.workingHoursRepository = workingHoursRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        // Not read-only (a lagging replica could miss ids); handlers run after the publishing transaction committed
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Read the rest of the current transaction from the database instead of the second-level cache.
+     * Cached copies are left as they are until the broadcast eviction drops them.
+     */
+    public void bypassForCurrentTransaction() {
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+    }
+
+    /**
+     * Drop every cached entry of a barber's aggregate on this instance
+     *
+     * @param barberProfileId The barber profile ID
+     */
+    public void evictBarber(Long barberProfileId) {
+        record Ids(List<Long> services, List<Long> workingHours) {}
+        Ids ids = readTransaction.execute(status -> new Ids(
+            serviceRepository.findIdsByBarberProfileId(barberProfileId),
+            workingHoursRepository.findIdsByBarberProfileId(barberProfileId)));
+
+        cache.evictEntityData(BarberProfile.class, barberProfileId);
+        cache.evictCollectionData(SERVICES_ROLE, barberProfileId);
+        cache.evictCollectionData(WORKING_HOURS_ROLE, barberProfileId);
+        ids.services().forEach(id -> cache.evictEntityData(Service.class, id));
+        ids.workingHours().forEach(id -> cache.evictEntityData(WorkingHours.class, id));
+        // Query results can only be evicted per region
+        cache.evictQueryRegion(CATALOG_QUERY_REGION);
+    }
+
+    public void clear() {
+        cache.evictEntityData(BarberProfile.class);
+        cache.evictCollectionData(SERVICES_ROLE);
+        cache.evictCollectionData(WORKING_HOURS_ROLE);
+        cache.evictEntityData(Service.class);
+        cache.evictEntityData(WorkingHours.class);
+        cache.evictQueryRegion(CATALOG_QUERY_REGION);
+    }
+
+    // ==================== EVENT HANDLERS ====================
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onProfileChanged(BroadcastDomainEvent<BarberProfileChanged> broadcast) {
+        log.debug("Evicting cached entities of barber {}", broadcast.event().getBarberProfileId());
+        evictBarber(broadcast.event().getBarberProfileId());
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onScheduleChanged(BroadcastDomainEvent<BarberScheduleChanged> broadcast) {
+        log.debug("Evicting cached entities of barber {}", broadcast.event().getBarberProfileId());
+        evictBarber(broadcast.event().getBarberProfileId());
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void on(ProjectionResyncRequested event) {
+        clear();
+    }
+}
@@ -0,0 +1,189 @@
+package com.barber.common.infrastructure.cache;
+
+import com.barber.common.domain.event.AppointmentBooked;
+import com.barber.common.domain.event.AppointmentCancelled;
+import com.barber.common.domain.event.AppointmentCompleted;
+import com.barber.common.domain.event.AppointmentScheduled;
+import com.barber.common.domain.event.BarberScheduleChanged;
+import com.barber.common.domain.valueobject.ScheduledTimeSlot;
+import com.barber.common.infrastructure.event.BroadcastDomainEvent;
+import com.barber.common.infrastructure.event.ProjectionResyncRequested;
+import com.barber.domain.model.DaySchedule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * INFRASTRUCTURE: BarberScheduleCache
+ *
+ * In-memory LRU cache of {@link DaySchedule} snapshots keyed by (barberProfileId, date).
+ *
+ * - Reads for hot barbers are served without database I/O
+ * - Entries are updated incrementally from appointment domain events broadcast to every instance
+ * - All entries of a barber are dropped when the barber's schedule changes
+ *
+ * A per-barber generation counter guards against caching a snapshot that was loaded
+ * while an event for the same barber was being applied.
+ */
+@Component
+@Slf4j
+public class BarberScheduleCache {
+
+    private final int maxEntries;
+    private final Map<Key, DaySchedule> entries;
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public BarberScheduleCache(@Value("${schedule-cache.max-entries:5000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, DaySchedule> eldest) {
+                if (size() > BarberScheduleCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get a barber's day schedule, loading it on a miss
+     *
+     * @param barberProfileId The barber profile ID
+     * @param date The date
+     * @param loader Loads the schedule from the database
+     * @return Day schedule snapshot
+     */
+    public DaySchedule get(Long barberProfileId, LocalDate date, Supplier<DaySchedule> loader) {
+        Key key = new Key(barberProfileId, date);
+        synchronized (entries) {
+            DaySchedule cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        misses.incrementAndGet();
+        long generation = generation(barberProfileId).get();
+        DaySchedule loaded = loader.get();
+
+        synchronized (entries) {
+            // Skip caching if an event for this barber arrived while loading
+            if (generation(barberProfileId).get() == generation) {
+                entries.putIfAbsent(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop every cached day of a barber
+     *
+     * @param barberProfileId The barber profile ID
+     */
+    public void evictBarber(Long barberProfileId) {
+        synchronized (entries) {
+            generation(barberProfileId).incrementAndGet();
+            entries.keySet().removeIf(key -> key.barberProfileId().equals(barberProfileId));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generations.values().forEach(AtomicLong::incrementAndGet);
+            entries.clear();
+        }
+    }
+
+    public Stats getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(size, maxEntries, hits.get(), misses.get(), evictions.get());
+    }
+
+    // ==================== EVENT HANDLERS ====================
+
+    @EventListener
+    public void onBooked(BroadcastDomainEvent<AppointmentBooked> broadcast) {
+        AppointmentBooked event = broadcast.event();
+        addBooking(event.getBarberProfileId(), event.getAppointmentId(), event.getTimeSlot());
+    }
+
+    @EventListener
+    public void onScheduled(BroadcastDomainEvent<AppointmentScheduled> broadcast) {
+        AppointmentScheduled event = broadcast.event();
+        addBooking(event.getBarberProfileId(), event.getAppointmentId(), event.getTimeSlot());
+    }
+
+    @EventListener
+    public void onCancelled(BroadcastDomainEvent<AppointmentCancelled> broadcast) {
+        AppointmentCancelled event = broadcast.event();
+        removeBooking(event.getBarberProfileId(), event.getAppointmentId(), event.getTimeSlot());
+    }
+
+    @EventListener
+    public void onCompleted(BroadcastDomainEvent<AppointmentCompleted> broadcast) {
+        AppointmentCompleted event = broadcast.event();
+        removeBooking(event.getBarberProfileId(), event.getAppointmentId(), event.getTimeSlot());
+    }
+
+    @EventListener
+    public void onScheduleChanged(BroadcastDomainEvent<BarberScheduleChanged> broadcast) {
+        log.debug("Evicting cached schedule of barber {}", broadcast.event().getBarberProfileId());
+        evictBarber(broadcast.event().getBarberProfileId());
+    }
+
+    @EventListener
+    public void on(ProjectionResyncRequested event) {
+        clear();
+    }
+
+    private void addBooking(Long barberProfileId, Long appointmentId, ScheduledTimeSlot timeSlot) {
+        Key key = new Key(barberProfileId, timeSlot.getDate());
+        synchronized (entries) {
+            generation(barberProfileId).incrementAndGet();
+            entries.computeIfPresent(key, (k, schedule) ->
+                schedule.withBooking(appointmentId, timeSlot.getStartTime(), timeSlot.getEndTime()));
+        }
+    }
+
+    private void removeBooking(Long barberProfileId, Long appointmentId, ScheduledTimeSlot timeSlot) {
+        Key key = new Key(barberProfileId, timeSlot.getDate());
+        synchronized (entries) {
+            generation(barberProfileId).incrementAndGet();
+            entries.computeIfPresent(key, (k, schedule) -> schedule.withoutBooking(appointmentId));
+        }
+    }
+
+    private AtomicLong generation(Long barberProfileId) {
+        return generations.computeIfAbsent(barberProfileId, id -> new AtomicLong());
+    }
+
+    private record Key(Long barberProfileId, LocalDate date) {}
+
+    /**
+     * Cache statistics snapshot
+     */
+    public record Stats(int size, int maxEntries, long hits, long misses, long evictions) {
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.barber.common.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * INFRASTRUCTURE: ReadReplicaRoutingDataSource
+ *
+ * Routes connections of read-only transactions to read replicas and everything else
+ * to the primary.
+ *
+ * - A connection goes to a replica only inside a @Transactional(readOnly = true) method;
+ *   writes, non-transactional work and booking validation always use the primary
+ * - Read-only work is spread round-robin over the replicas that are currently available
+ * - A replica is available once {@link ReplicaLagMonitor} has seen it within the allowed
+ *   lag; if none is, read-only work falls back to the primary
+ *
+ * The decision is made when a connection is obtained, so this data source must be
+ * wrapped in a LazyConnectionDataSourceProxy: the transaction manager asks for a
+ * connection before the transaction is marked read-only.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final Set<String> available = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryFallbacks = new AtomicLong();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        List<String> candidates = replicas.keySet().stream().filter(available::contains).toList();
+        if (candidates.isEmpty()) {
+            primaryFallbacks.incrementAndGet();
+            return PRIMARY;
+        }
+        replicaReads.incrementAndGet();
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Replica pools by name
+     */
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Include a replica in or exclude it from routing
+     *
+     * @param name The replica name
+     * @param isAvailable Whether read-only work may be sent to it
+     */
+    public void setReplicaAvailable(String name, boolean isAvailable) {
+        boolean changed = isAvailable ? available.add(name) : available.remove(name);
+        if (changed) {
+            log.info("Read replica {} is now {}", name, isAvailable ? "available" : "unavailable, using the primary");
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(replicas.size(), available.size(), replicaReads.get(), primaryFallbacks.get());
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        // The replica pools are owned here; the primary pool is a bean of its own
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * Routing statistics snapshot
+     */
+    public record Stats(int replicas, int availableReplicas, long replicaReads, long primaryFallbacks) {}
+}
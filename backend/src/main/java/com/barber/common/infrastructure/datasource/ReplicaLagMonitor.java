@@ -0,0 +1,59 @@
+package com.barber.common.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * INFRASTRUCTURE: ReplicaLagMonitor
+ *
+ * Periodically measures how far each read replica is behind the primary and tells
+ * {@link ReadReplicaRoutingDataSource} which replicas may serve reads.
+ *
+ * - A replica is used only while its lag is at most the configured maximum, which bounds
+ *   how stale a read-only response can be
+ * - A replica that cannot be queried is treated as unavailable until a later check succeeds
+ * - Replicas start unavailable, so reads stay on the primary until the first check
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReadReplicaRoutingDataSource routingDataSource;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    public ReplicaLagMonitor(ReadReplicaRoutingDataSource routingDataSource, String lagQuery, double maxLagSeconds) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        for (Map.Entry<String, DataSource> replica : routingDataSource.getReplicas().entrySet()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.getValue());
+            jdbcTemplate.setQueryTimeout(5);
+            replicas.put(replica.getKey(), jdbcTemplate);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${read-replicas.lag-check-interval-ms:5000}")
+    public void checkReplicas() {
+        replicas.forEach((name, jdbcTemplate) -> {
+            boolean isAvailable;
+            try {
+                Double lagSeconds = jdbcTemplate.queryForObject(lagQuery, Double.class);
+                isAvailable = lagSeconds != null && lagSeconds <= maxLagSeconds;
+                if (!isAvailable) {
+                    log.debug("Read replica {} is {} s behind (max {} s)", name, lagSeconds, maxLagSeconds);
+                }
+            } catch (DataAccessException ex) {
+                log.warn("Lag check of read replica {} failed: {}", name, ex.getMessage());
+                isAvailable = false;
+            }
+            routingDataSource.setReplicaAvailable(name, isAvailable);
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.barber.common.infrastructure.event;
+
+import com.barber.common.domain.event.DomainEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * INFRASTRUCTURE: BroadcastDomainEvent
+ *
+ * A domain event as delivered by {@link OutboxBroadcaster} to every application instance.
+ * Instance-local projections (caches, read models) listen to
+ * {@code BroadcastDomainEvent<SomeEvent>}; listeners of the plain event run once per event
+ * on whichever instance's {@link OutboxDispatcher} claimed it.
+ *
+ * @param event The wrapped domain event
+ * @param <E> The domain event type, used by Spring to match generic listeners
+ */
+public record BroadcastDomainEvent<E extends DomainEvent>(E event) implements ResolvableTypeProvider {
+
+    @Override
+    public ResolvableType getResolvableType() {
+        return ResolvableType.forClassWithGenerics(BroadcastDomainEvent.class, event.getClass());
+    }
+}
@@ -1,51 +1,64 @@
 package com.barber.common.infrastructure.event;
 
 import com.barber.common.domain.event.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collection;
 
 /**
  * INFRASTRUCTURE: DomainEventPublisher
  *
- * Publishes domain events using Spring's ApplicationEventPublisher.
+ * Publishes domain events through a transactional outbox.
  * This is the bridge between the domain layer and Spring's event infrastructure.
  *
  * Usage:
  * 1. Domain aggregates collect events (using registerEvent() pattern)
  * 2. Application services pull events from aggregates after persistence
  * 3. Application services use this publisher to publish events
- * 4. Event handlers (@EventListener) react to published events
+ * 4. Events are stored in the outbox table in the caller's transaction
+ * 5. After commit, they are applied to this instance's projections right away,
+ *    {@link OutboxDispatcher} delivers them once to event handlers
+ *    (@EventListener / @TransactionalEventListener) on a background thread,
+ *    and {@link OutboxBroadcaster} delivers them to the projections of the other instances
  *
  * Benefits:
  * - Decouples domain from infrastructure
- * - Synchronous event handling within same transaction
- * - Can be extended for asynchronous/external event publishing
+ * - Slow or failing handlers neither delay nor roll back the business transaction
+ * - Events of rolled back transactions are never delivered
+ * - At-least-once delivery with retries; handlers must be idempotent
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DomainEventPublisher {
 
-    private final ApplicationEventPublisher applicationEventPublisher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final OutboxBroadcaster outboxBroadcaster;
+    private final ObjectMapper objectMapper;
 
     /**
      * Publish a single domain event
      *
      * @param event The domain event to publish
      */
+    @Transactional
     public void publish(DomainEvent event) {
         if (event == null) {
             log.warn("Attempted to publish null event");
             return;
         }
 
-        log.debug("Publishing domain event: {} - {}", event.getEventType(), event);
-        applicationEventPublisher.publishEvent(event);
-        log.debug("Successfully published: {}", event.getEventType());
+        log.debug("Storing domain event in outbox: {} - {}", event.getEventType(), event);
+        OutboxEvent stored = outboxEventRepository.save(OutboxEvent.pending(event.getClass().getName(), serialize(event)));
+        dispatchAfterCommit(stored, event);
     }
 
     /**
@@ -53,6 +66,7 @@ public class DomainEventPublisher {
      *
      * @param events Collection of domain events to publish
      */
+    @Transactional
     public void publishAll(Collection<DomainEvent> events) {
         if (events == null || events.isEmpty()) {
             return;
@@ -63,7 +77,27 @@ public class DomainEventPublisher {
         for (DomainEvent event : events) {
             publish(event);
         }
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Domain event could not be serialized: " + event.getEventType(), ex);
+        }
+    }
 
-        log.debug("Successfully published {} events", events.size());
+    /**
+     * Once committed, update local projections (so the caller reads its own change back)
+     * and wake the dispatcher instead of waiting for the next poll
+     */
+    private void dispatchAfterCommit(OutboxEvent stored, DomainEvent event) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxBroadcaster.deliverCommitted(stored, event);
+                outboxDispatcher.wakeUp();
+            }
+        });
     }
 }
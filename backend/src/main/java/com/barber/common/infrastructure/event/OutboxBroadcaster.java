@@ -0,0 +1,177 @@
+package com.barber.common.infrastructure.event;
+
+import com.barber.common.domain.event.DomainEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * INFRASTRUCTURE: OutboxBroadcaster
+ *
+ * Delivers every outbox event to this instance's projections as a {@link BroadcastDomainEvent},
+ * independently of the competing {@link OutboxDispatcher}, so caches and read models stay
+ * current on all instances and not only on the one that claimed the event.
+ *
+ * - Each instance tails the outbox on its own; nothing is claimed or written back
+ * - Ids come from pooled sequences and are not in commit order, so each poll re-reads the
+ *   ids created within a look-back window and delivers those not applied yet
+ * - The window has to cover the longest publishing transaction plus clock skew between
+ *   instances; when polls are further apart than the window, events may have been missed
+ *   and a {@link ProjectionResyncRequested} makes the projections rebuild from the database
+ * - Projection handlers must be idempotent: events of the window are replayed after a restart
+ *
+ * Events published on this instance are applied right after their transaction commits
+ * ({@link #deliverCommitted}), so the instance that made a change reads it back immediately.
+ */
+@Component
+@Slf4j
+public class OutboxBroadcaster {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final Duration lookBack;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-broadcaster");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    // Written by the worker thread and by committing request threads
+    private final Map<Long, LocalDateTime> applied = new ConcurrentHashMap<>();
+    private LocalDateTime lastPollStartedAt;
+
+    public OutboxBroadcaster(OutboxEventRepository outboxEventRepository,
+                             ApplicationEventPublisher applicationEventPublisher,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${outbox.broadcast-look-back-ms:60000}") long lookBackMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        // Not read-only: with read replicas enabled, the outbox must be read from the primary
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.lookBack = Duration.ofMillis(lookBackMs);
+    }
+
+    /**
+     * Request a poll on the broadcaster thread; calls while one is queued are coalesced
+     */
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            worker.execute(() -> {
+                wakeUpPending.set(false);
+                poll();
+            });
+        }
+    }
+
+    /**
+     * Apply an event published on this instance to the local projections, on the committing thread
+     *
+     * @param stored The outbox row written for the event
+     * @param event The domain event
+     */
+    public void deliverCommitted(OutboxEvent stored, DomainEvent event) {
+        if (applied.putIfAbsent(stored.getId(), stored.getCreatedAt()) == null) {
+            publish(stored, event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.broadcast-poll-interval-ms:1000}")
+    public void schedulePoll() {
+        wakeUp();
+    }
+
+    /**
+     * Deliver the events of the look-back window that this instance has not applied yet
+     */
+    void poll() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime since = startedAt.minus(lookBack);
+            if (lastPollStartedAt != null && lastPollStartedAt.isBefore(since)) {
+                requestResync("outbox not read for longer than the look-back window");
+            }
+            lastPollStartedAt = startedAt;
+
+            applied.values().removeIf(createdAt -> createdAt.isBefore(since));
+
+            List<Long> unseen = readTransaction.execute(status ->
+                outboxEventRepository.findIdsCreatedSince(since)).stream()
+                .filter(id -> !applied.containsKey(id))
+                .toList();
+            if (unseen.isEmpty()) {
+                return;
+            }
+
+            List<OutboxEvent> events = readTransaction.execute(status ->
+                outboxEventRepository.findAllById(unseen)).stream()
+                .sorted(Comparator.comparing(OutboxEvent::getCreatedAt).thenComparing(OutboxEvent::getId))
+                .toList();
+            for (OutboxEvent event : events) {
+                // Skips events a committing thread applied meanwhile
+                if (applied.putIfAbsent(event.getId(), event.getCreatedAt()) == null) {
+                    deliver(event);
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.error("Outbox broadcast failed", ex);
+        }
+    }
+
+    private void deliver(OutboxEvent event) {
+        DomainEvent domainEvent;
+        try {
+            domainEvent = OutboxDispatcher.deserialize(objectMapper, event);
+        } catch (Exception ex) {
+            log.warn("Outbox event {} ({}) could not be read: {}", event.getId(), event.getEventType(), ex.getMessage());
+            requestResync("event " + event.getId() + " could not be read");
+            return;
+        }
+        publish(event, domainEvent);
+    }
+
+    private void publish(OutboxEvent stored, DomainEvent event) {
+        try {
+            applicationEventPublisher.publishEvent(new BroadcastDomainEvent<>(event));
+        } catch (RuntimeException ex) {
+            log.warn("Broadcast of outbox event {} ({}) failed: {}",
+                stored.getId(), stored.getEventType(), ex.getMessage());
+            requestResync("event " + stored.getId() + " could not be applied");
+        }
+    }
+
+    private void requestResync(String reason) {
+        log.warn("Resynchronizing local projections: {}", reason);
+        try {
+            applicationEventPublisher.publishEvent(new ProjectionResyncRequested(reason));
+        } catch (RuntimeException ex) {
+            log.error("Resynchronizing local projections failed", ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdown();
+    }
+}
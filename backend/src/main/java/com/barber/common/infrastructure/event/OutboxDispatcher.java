@@ -0,0 +1,175 @@
+package com.barber.common.infrastructure.event;
+
+import com.barber.common.domain.event.DomainEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * INFRASTRUCTURE: OutboxDispatcher
+ *
+ * Drains the outbox in batches and delivers each event to Spring event listeners.
+ * Instances compete for events, so each is delivered once across the cluster: listeners of the
+ * plain event are for side effects that must run once (e.g. rating updates). Instance-local
+ * projections listen to the {@link BroadcastDomainEvent} of {@link OutboxBroadcaster} instead.
+ *
+ * - Woken right after a publishing transaction commits, and polls periodically as a safety net
+ * - A batch is claimed in a short transaction by leasing its rows, then delivered outside
+ *   of any transaction, so listener failures are seen here and retried
+ * - Failed deliveries back off exponentially and are marked FAILED after the last attempt
+ * - Delivery is at-least-once: an event whose lease expires (e.g. after a crash) is redelivered
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final Duration LEASE = Duration.ofSeconds(60);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration retention;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            ApplicationEventPublisher applicationEventPublisher,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.base-backoff-ms:1000}") long baseBackoffMs,
+                            @Value("${outbox.retention-hours:24}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = Duration.ofMillis(baseBackoffMs);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * Request a drain on the dispatcher thread; calls while one is queued are coalesced
+     */
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            worker.execute(() -> {
+                wakeUpPending.set(false);
+                drain();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    @Scheduled(cron = "${outbox.cleanup-cron:0 15 * * * *}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+            outboxEventRepository.deleteByStatusAndPublishedAtBefore(
+                OutboxEvent.Status.PUBLISHED, LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+
+    /**
+     * Deliver due events until the outbox has none left
+     */
+    void drain() {
+        try {
+            List<OutboxEvent> batch;
+            do {
+                batch = claimBatch();
+                for (OutboxEvent event : batch) {
+                    deliver(event);
+                }
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException ex) {
+            log.error("Outbox dispatch failed", ex);
+        }
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> due = outboxEventRepository.findDueForUpdate(
+                OutboxEvent.Status.PENDING, now, PageRequest.of(0, batchSize));
+            due.forEach(event -> event.claim(now.plus(LEASE)));
+            return due;
+        });
+    }
+
+    private void deliver(OutboxEvent event) {
+        String error = null;
+        try {
+            DomainEvent domainEvent = deserialize(objectMapper, event);
+            // No transaction is active here, so listeners run now and their failures surface
+            applicationEventPublisher.publishEvent(domainEvent);
+        } catch (Exception ex) {
+            log.warn("Delivery of outbox event {} ({}) failed on attempt {}: {}",
+                event.getId(), event.getEventType(), event.getAttempts(), ex.getMessage());
+            error = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+        }
+
+        String failure = error;
+        transactionTemplate.executeWithoutResult(status ->
+            outboxEventRepository.findById(event.getId()).ifPresent(stored -> {
+                if (failure == null) {
+                    stored.markPublished();
+                } else {
+                    stored.markFailed(failure, LocalDateTime.now().plus(backoff(stored.getAttempts())), maxAttempts);
+                }
+            }));
+    }
+
+    /**
+     * Restore the domain event stored in an outbox row
+     */
+    static DomainEvent deserialize(ObjectMapper objectMapper, OutboxEvent event) throws Exception {
+        Class<?> type = Class.forName(event.getEventType());
+        if (!DomainEvent.class.isAssignableFrom(type)) {
+            throw new IllegalStateException("Not a domain event type: " + event.getEventType());
+        }
+        return (DomainEvent) objectMapper.readValue(event.getPayload(), type);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdown();
+    }
+}
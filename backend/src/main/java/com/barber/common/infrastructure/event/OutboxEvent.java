@@ -0,0 +1,104 @@
+package com.barber.common.infrastructure.event;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * INFRASTRUCTURE: OutboxEvent
+ *
+ * A serialized domain event written in the same transaction as the change that raised it.
+ * The {@link OutboxDispatcher} delivers it to listeners after commit (at-least-once).
+ *
+ * A PENDING event is due when nextAttemptAt has passed; while an instance is delivering it,
+ * nextAttemptAt is pushed forward as a lease so other instances leave it alone.
+ * Independently of its status, every instance's {@link OutboxBroadcaster} reads it by createdAt.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_status_next_attempt", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_outbox_events_created", columnList = "created_at, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED) // For JPA only
+public class OutboxEvent {
+
+    public enum Status {
+        PENDING,
+        PUBLISHED,
+        FAILED
+    }
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static OutboxEvent pending(String eventType, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.payload = payload;
+        event.status = Status.PENDING;
+        event.attempts = 0;
+        event.createdAt = LocalDateTime.now();
+        event.nextAttemptAt = event.createdAt;
+        return event;
+    }
+
+    /**
+     * Claim the event for delivery until the lease expires
+     */
+    void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    void markPublished() {
+        this.status = Status.PUBLISHED;
+        this.publishedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * Record a failed delivery; gives up once the attempts are exhausted
+     */
+    void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+            ? error.substring(0, MAX_ERROR_LENGTH)
+            : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
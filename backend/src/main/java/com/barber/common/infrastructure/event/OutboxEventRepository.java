@@ -0,0 +1,37 @@
+package com.barber.common.infrastructure.event;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDueForUpdate(
+        @Param("status") OutboxEvent.Status status,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.createdAt >= :since ORDER BY e.createdAt, e.id")
+    List<Long> findIdsCreatedSince(@Param("since") LocalDateTime since);
+
+    long countByStatus(OutboxEvent.Status status);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.publishedAt < :before")
+    int deleteByStatusAndPublishedAtBefore(
+        @Param("status") OutboxEvent.Status status,
+        @Param("before") LocalDateTime before
+    );
+}
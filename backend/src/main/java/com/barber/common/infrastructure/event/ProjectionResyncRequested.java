@@ -0,0 +1,13 @@
+package com.barber.common.infrastructure.event;
+
+/**
+ * INFRASTRUCTURE: ProjectionResyncRequested
+ *
+ * Published by {@link OutboxBroadcaster} when this instance may have missed broadcast events
+ * (the outbox was not read for longer than the look-back window, or a projection failed to
+ * apply an event). Instance-local projections rebuild from the database.
+ *
+ * @param reason Why the resync was requested, for logging
+ */
+public record ProjectionResyncRequested(String reason) {
+}
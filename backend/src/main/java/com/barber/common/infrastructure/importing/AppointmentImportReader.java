@@ -0,0 +1,190 @@
+package com.barber.common.infrastructure.importing;
+
+import com.barber.dto.AppointmentDto;
+import com.barber.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * INFRASTRUCTURE: AppointmentImportReader
+ *
+ * Reads appointment import rows one line at a time from an uploaded stream, so an
+ * import of any size only keeps the current line in memory.
+ *
+ * Supported formats:
+ * - CSV (text/csv): a header line naming the columns customerEmail, serviceId,
+ *   appointmentDate, startTime and optionally notes, in any order. Fields may be quoted;
+ *   quoted fields cannot span lines.
+ * - JSON lines (application/x-ndjson): one JSON object per line with the same fields
+ *
+ * Blank lines are skipped. A line that cannot be parsed yields a record carrying the
+ * error instead of a row, so the import can report it and continue.
+ */
+public class AppointmentImportReader implements Closeable {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("customeremail", "serviceid", "appointmentdate", "starttime");
+
+    public enum Format { CSV, JSON_LINES }
+
+    /**
+     * A parsed line: either a row or the reason the line was rejected
+     */
+    public record ImportRecord(long line, AppointmentDto.ImportRow row, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columns;
+    private long lineNumber;
+
+    public AppointmentImportReader(InputStream input, Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Resolve the import format from the request content type
+     *
+     * @throws BadRequestException if the content type is not supported
+     */
+    public static Format formatOf(MediaType contentType) {
+        if (contentType != null && TEXT_CSV.includes(contentType)) {
+            return Format.CSV;
+        }
+        if (contentType != null && APPLICATION_NDJSON.includes(contentType)) {
+            return Format.JSON_LINES;
+        }
+        throw new BadRequestException("Desteklenmeyen dosya türü. text/csv veya application/x-ndjson kullanın");
+    }
+
+    /**
+     * Read the next non-blank line
+     *
+     * @return The parsed record, or null at the end of the stream
+     * @throws BadRequestException if the CSV header is missing required columns
+     */
+    public ImportRecord next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1); // UTF-8 byte order mark
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && columns == null) {
+                readHeader(line);
+                continue;
+            }
+            return format == Format.CSV ? parseCsv(line) : parseJson(line);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader(String line) {
+        columns = new HashMap<>();
+        List<String> names = splitCsv(line);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new BadRequestException("CSV başlık satırında zorunlu sütun eksik: " + required);
+            }
+        }
+    }
+
+    private ImportRecord parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        AppointmentDto.ImportRow row = new AppointmentDto.ImportRow();
+        try {
+            row.setCustomerEmail(field(fields, "customeremail"));
+            String serviceId = field(fields, "serviceid");
+            row.setServiceId(serviceId != null ? Long.valueOf(serviceId) : null);
+            String date = field(fields, "appointmentdate");
+            row.setAppointmentDate(date != null ? LocalDate.parse(date) : null);
+            String startTime = field(fields, "starttime");
+            row.setStartTime(startTime != null ? LocalTime.parse(startTime) : null);
+            row.setNotes(field(fields, "notes"));
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            return new ImportRecord(lineNumber, null, "Geçersiz değer: " + ex.getMessage());
+        }
+        return new ImportRecord(lineNumber, row, null);
+    }
+
+    private ImportRecord parseJson(String line) {
+        try {
+            return new ImportRecord(lineNumber, objectMapper.readValue(line, AppointmentDto.ImportRow.class), null);
+        } catch (JsonProcessingException ex) {
+            return new ImportRecord(lineNumber, null, "Geçersiz JSON satırı: " + ex.getOriginalMessage());
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Split a CSV line on commas, honouring double-quoted fields ("" is an escaped quote)
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,71 @@
+package com.barber.common.infrastructure.lock;
+
+import com.barber.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * INFRASTRUCTURE: BookingLocks
+ *
+ * Striped in-process locks keyed by (barberProfileId, date).
+ * Bookings for the same barber and day are serialised inside this JVM, while unrelated
+ * bookings only contend when they hash to the same stripe.
+ *
+ * This only covers a single instance; the booking transaction additionally locks the
+ * barber row in the database so that several instances stay consistent.
+ */
+@Component
+public class BookingLocks {
+
+    private static final long LOCK_TIMEOUT_SECONDS = 5;
+
+    private final ReentrantLock[] stripes;
+
+    public BookingLocks(@Value("${booking.lock-stripes:256}") int stripeCount) {
+        // Round up to a power of two so the stripe index is a cheap mask
+        int size = Integer.highestOneBit(Math.max(stripeCount, 1) - 1) << 1;
+        this.stripes = new ReentrantLock[Math.max(size, 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Run an action while holding the stripe of a barber's day
+     *
+     * @param barberProfileId The barber profile ID
+     * @param date The appointment date
+     * @param action Action to run (typically a whole booking transaction)
+     * @return Result of the action
+     * @throws TooManyRequestsException if the lock cannot be acquired in time (429, the client may retry)
+     */
+    public <T> T withLock(Long barberProfileId, LocalDate date, Supplier<T> action) {
+        ReentrantLock lock = stripeFor(barberProfileId, date);
+        try {
+            if (!lock.tryLock(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new TooManyRequestsException("Randevu sistemi şu anda yoğun, lütfen tekrar deneyin");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("Randevu işlemi yarıda kesildi");
+        }
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeFor(Long barberProfileId, LocalDate date) {
+        int hash = Objects.hash(barberProfileId, date);
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+}
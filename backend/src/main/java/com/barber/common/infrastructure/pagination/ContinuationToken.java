@@ -0,0 +1,72 @@
+package com.barber.common.infrastructure.pagination;
+
+import com.barber.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * INFRASTRUCTURE: ContinuationToken
+ *
+ * Opaque cursor for keyset pagination. A token carries the sort key of the last row
+ * of a page, so the next page continues with "rows after this key" instead of an offset.
+ *
+ * Encoded as URL-safe Base64 of "kind|key1|key2|...". The kind keeps a token of one
+ * list from being replayed against another. Clients must treat tokens as opaque.
+ */
+public final class ContinuationToken {
+
+    private static final String SEPARATOR = "|";
+
+    private ContinuationToken() {
+    }
+
+    /**
+     * Encode a sort key
+     *
+     * @param kind Which list the token belongs to
+     * @param keys Sort key values of the last row, in sort order (their toString must not contain '|')
+     * @return Opaque token
+     */
+    public static String encode(String kind, Object... keys) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        joiner.add(kind);
+        for (Object key : keys) {
+            joiner.add(String.valueOf(key));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode}
+     *
+     * @param token The token sent by the client
+     * @param kind Expected list
+     * @param keyCount Expected number of sort key values
+     * @return Sort key values as strings, to be parsed by the caller
+     * @throws BadRequestException if the token is malformed or belongs to another list
+     */
+    public static String[] decode(String token, String kind, int keyCount) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException ex) {
+            throw invalid();
+        }
+        if (parts.length != keyCount + 1 || !parts[0].equals(kind)) {
+            throw invalid();
+        }
+        String[] keys = new String[keyCount];
+        System.arraycopy(parts, 1, keys, 0, keyCount);
+        return keys;
+    }
+
+    /**
+     * Error for a token whose keys cannot be parsed
+     */
+    public static BadRequestException invalid() {
+        return new BadRequestException("Geçersiz sayfa belirteci");
+    }
+}
@@ -0,0 +1,117 @@
+package com.barber.common.infrastructure.persistence;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * INFRASTRUCTURE: H2AppointmentOverlapTrigger
+ *
+ * H2 counterpart of the PostgreSQL exclusion constraint ex_appointments_no_overlap
+ * (db/migration/postgresql/V7): rejects an active appointment whose time range overlaps
+ * another active appointment of the same barber.
+ *
+ * - Ranges are half-open [start, end); an end at or before the start means the next day
+ * - The barber row is locked first, so concurrent writers of one barber are serialised and
+ *   each check sees the appointments committed before it
+ * - Violations are raised with SQLSTATE 23P01 (exclusion violation), which Spring translates
+ *   to a DataIntegrityViolationException like the PostgreSQL constraint
+ */
+public class H2AppointmentOverlapTrigger implements Trigger {
+
+    private static final Set<String> ACTIVE_STATUSES = Set.of("PENDING", "CONFIRMED");
+
+    private static final String LOCK_BARBER =
+        "SELECT id FROM barber_profiles WHERE id = ? FOR UPDATE";
+
+    // Neighbouring days are included for ranges that wrap past midnight
+    private static final String FIND_ACTIVE_NEARBY =
+        "SELECT id, appointment_date, start_time, end_time FROM appointments " +
+        "WHERE barber_profile_id = ? AND appointment_date BETWEEN ? AND ? " +
+        "AND status IN ('PENDING', 'CONFIRMED') AND id <> ?";
+
+    private int idColumn;
+    private int barberColumn;
+    private int dateColumn;
+    private int startColumn;
+    private int endColumn;
+    private int statusColumn;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) throws SQLException {
+        try (ResultSet columns = conn.getMetaData().getColumns(null, schemaName, tableName, null)) {
+            while (columns.next()) {
+                int index = columns.getInt("ORDINAL_POSITION") - 1;
+                switch (columns.getString("COLUMN_NAME").toLowerCase(Locale.ROOT)) {
+                    case "id" -> idColumn = index;
+                    case "barber_profile_id" -> barberColumn = index;
+                    case "appointment_date" -> dateColumn = index;
+                    case "start_time" -> startColumn = index;
+                    case "end_time" -> endColumn = index;
+                    case "status" -> statusColumn = index;
+                    default -> { }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        if (newRow == null || !ACTIVE_STATUSES.contains(String.valueOf(newRow[statusColumn]))) {
+            return;
+        }
+
+        long id = newRow[idColumn] != null ? ((Number) newRow[idColumn]).longValue() : -1L;
+        long barberProfileId = ((Number) newRow[barberColumn]).longValue();
+        LocalDate date = toDate(newRow[dateColumn]);
+        LocalDateTime start = date.atTime(toTime(newRow[startColumn]));
+        LocalDateTime end = endOf(date, toTime(newRow[startColumn]), toTime(newRow[endColumn]));
+
+        try (PreparedStatement lock = conn.prepareStatement(LOCK_BARBER)) {
+            lock.setLong(1, barberProfileId);
+            lock.executeQuery().close();
+        }
+
+        try (PreparedStatement query = conn.prepareStatement(FIND_ACTIVE_NEARBY)) {
+            query.setLong(1, barberProfileId);
+            query.setObject(2, date.minusDays(1));
+            query.setObject(3, date.plusDays(1));
+            query.setLong(4, id);
+            try (ResultSet rows = query.executeQuery()) {
+                while (rows.next()) {
+                    LocalDate otherDate = rows.getObject(2, LocalDate.class);
+                    LocalTime otherStartTime = rows.getObject(3, LocalTime.class);
+                    LocalDateTime otherStart = otherDate.atTime(otherStartTime);
+                    LocalDateTime otherEnd = endOf(otherDate, otherStartTime, rows.getObject(4, LocalTime.class));
+                    if (start.isBefore(otherEnd) && otherStart.isBefore(end)) {
+                        throw new SQLException("Appointment overlaps appointment " + rows.getLong(1)
+                            + " of barber " + barberProfileId + " (ex_appointments_no_overlap)", "23P01");
+                    }
+                }
+            }
+        }
+    }
+
+    private static LocalDateTime endOf(LocalDate date, LocalTime start, LocalTime end) {
+        return end.isAfter(start) ? date.atTime(end) : date.plusDays(1).atTime(end);
+    }
+
+    private static LocalDate toDate(Object value) {
+        return value instanceof Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) value;
+    }
+
+    private static LocalTime toTime(Object value) {
+        return value instanceof Time sqlTime ? sqlTime.toLocalTime() : (LocalTime) value;
+    }
+}
@@ -0,0 +1,69 @@
+package com.barber.common.infrastructure.rating;
+
+import com.barber.common.infrastructure.readmodel.BarberReadModel;
+import com.barber.domain.service.BarberRatingService;
+import com.barber.repository.BarberProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * INFRASTRUCTURE: BarberRankingJob
+ *
+ * Recomputes all ranking scores from the reviews in bulk.
+ *
+ * - Runs once the application is ready (which also fills scores of existing profiles)
+ *   and then nightly
+ * - Refreshes the platform-wide prior and applies the passage of time to every barber,
+ *   including barbers without new reviews, whose recent reviews are aging
+ * - Locks barber rows in small batches, so bookings are never blocked for the whole run
+ * - Rebuilds the barber read model once afterwards instead of refreshing barbers one by one
+ *
+ * Between runs, scores are updated incrementally by {@link RatingUpdateBatcher}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BarberRankingJob {
+
+    /**
+     * Barber rows locked at a time
+     */
+    private static final int BATCH_SIZE = 100;
+
+    private final BarberRatingService ratingService;
+    private final BarberProfileRepository barberProfileRepository;
+    private final RatingUpdateBatcher ratingUpdateBatcher;
+    private final BarberReadModel barberReadModel;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recomputeOnStartup() {
+        recompute();
+    }
+
+    @Scheduled(cron = "${ranking.recompute-cron:0 0 4 * * *}")
+    public void recompute() {
+        // Apply uncounted reviews first, so the scores include them
+        ratingUpdateBatcher.flushAll();
+
+        long start = System.nanoTime();
+        ratingService.refreshRankingPrior();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> barberProfileIds = barberProfileRepository.findAllIds();
+        int updated = 0;
+        // One transaction per batch
+        for (int from = 0; from < barberProfileIds.size(); from += BATCH_SIZE) {
+            updated += ratingService.recomputeRankings(
+                barberProfileIds.subList(from, Math.min(from + BATCH_SIZE, barberProfileIds.size())), now);
+        }
+        barberReadModel.rebuild();
+        log.info("Recomputed ranking scores of {} barbers in {} ms",
+            updated, (System.nanoTime() - start) / 1_000_000);
+    }
+}
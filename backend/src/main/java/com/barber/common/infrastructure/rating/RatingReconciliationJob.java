@@ -0,0 +1,98 @@
+package com.barber.common.infrastructure.rating;
+
+import com.barber.common.infrastructure.event.DomainEventPublisher;
+import com.barber.domain.service.BarberRatingService;
+import com.barber.repository.BarberProfileRepository;
+import com.barber.repository.ReviewRepository;
+import com.barber.repository.projection.RatingTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * INFRASTRUCTURE: RatingReconciliationJob
+ *
+ * Detects and corrects drift between the incrementally maintained rating totals
+ * and the visible reviews.
+ *
+ * - Runs once the application is ready (which also fills totals of existing profiles)
+ *   and then daily
+ * - Compares all barbers with two bulk aggregate queries against the reviews counted in their
+ *   totals; only drifted barbers are recomputed, under the profile row lock
+ * - Reviews not applied yet are not counted on either side, so review events still being
+ *   delivered never show up as drift
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RatingReconciliationJob {
+
+    private final BarberProfileRepository barberProfileRepository;
+    private final ReviewRepository reviewRepository;
+    private final BarberRatingService ratingService;
+    private final RatingUpdateBatcher ratingUpdateBatcher;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${rating.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        ratingUpdateBatcher.flushAll();
+
+        Map<Long, RatingTotals> actualTotals = reviewRepository.sumCountedRatingsByBarber().stream()
+            .collect(Collectors.toMap(RatingTotals::getBarberProfileId, Function.identity()));
+
+        List<Long> drifted = new ArrayList<>();
+        for (RatingTotals stored : barberProfileRepository.findAllRatingTotals()) {
+            RatingTotals actual = actualTotals.get(stored.getBarberProfileId());
+            long actualSum = actual != null ? actual.getRatingSum() : 0;
+            long actualCount = actual != null ? actual.getReviewCount() : 0;
+            if (stored.getRatingSum() != actualSum || stored.getReviewCount() != actualCount) {
+                drifted.add(stored.getBarberProfileId());
+            }
+        }
+
+        int corrected = 0;
+        for (Long barberProfileId : drifted) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(barberProfileId)))) {
+                    corrected++;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Reconciling rating of barber {} failed: {}", barberProfileId, ex.getMessage());
+            }
+        }
+
+        if (corrected > 0) {
+            log.warn("Rating reconciliation corrected {} drifted barbers: {}", corrected, drifted);
+        } else {
+            log.debug("Rating reconciliation found no drift");
+        }
+    }
+
+    /**
+     * Correct a single barber and publish the change, in the caller's transaction
+     */
+    private boolean reconcile(Long barberProfileId) {
+        return ratingService.reconcileRating(barberProfileId)
+            .map(profile -> {
+                eventPublisher.publishAll(profile.pullDomainEvents());
+                return true;
+            })
+            .orElse(false);
+    }
+}
@@ -0,0 +1,91 @@
+package com.barber.common.infrastructure.rating;
+
+import com.barber.common.domain.event.ReviewSubmitted;
+import com.barber.common.domain.event.ReviewVisibilityChanged;
+import com.barber.common.infrastructure.event.DomainEventPublisher;
+import com.barber.domain.service.BarberRatingService;
+import com.barber.exception.ResourceNotFoundException;
+import com.barber.repository.ReviewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * INFRASTRUCTURE: RatingUpdateBatcher
+ *
+ * Maintains barber ratings incrementally from review events.
+ *
+ * - An event only marks its barber as pending; what changed is read from the reviews whose
+ *   counted flag differs from their visibility, so each review contributes an O(1) delta
+ * - Pending barbers are flushed periodically, so a burst of reviews for one barber costs a
+ *   single locked row update instead of one per review
+ * - A flush marks the reviews it applied in the same transaction as the totals: a redelivered
+ *   event finds nothing left to apply, and a failed flush is retried on the next one
+ *
+ * The pending set lives in memory only. Reviews of barbers that were not flushed before a crash
+ * keep their mismatched flag and are picked up by {@link #flushAll()}, which runs before the
+ * rating jobs, at startup and nightly.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RatingUpdateBatcher {
+
+    private final BarberRatingService ratingService;
+    private final ReviewRepository reviewRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ReviewSubmitted event) {
+        pending.add(event.getBarberProfileId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ReviewVisibilityChanged event) {
+        pending.add(event.getBarberProfileId());
+    }
+
+    /**
+     * Apply the uncounted reviews of all pending barbers, one locked update per barber
+     */
+    @Scheduled(fixedDelayString = "${rating.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        for (Long barberProfileId : List.copyOf(pending)) {
+            pending.remove(barberProfileId);
+            try {
+                transactionTemplate.executeWithoutResult(status -> eventPublisher.publishAll(
+                    ratingService.applyUncountedRatings(barberProfileId).pullDomainEvents()));
+            } catch (ResourceNotFoundException ex) {
+                log.warn("Dropping rating update for missing barber {}", barberProfileId);
+            } catch (RuntimeException ex) {
+                log.warn("Applying ratings of barber {} failed, will retry: {}", barberProfileId, ex.getMessage());
+                pending.add(barberProfileId);
+            }
+        }
+    }
+
+    /**
+     * Apply the uncounted reviews of every barber, including those whose events were delivered
+     * to an instance that stopped before flushing them
+     */
+    public synchronized void flushAll() {
+        pending.addAll(reviewRepository.findBarberProfileIdsWithUncountedRatings());
+        flush();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
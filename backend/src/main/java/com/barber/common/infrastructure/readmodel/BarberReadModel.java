@@ -0,0 +1,373 @@
+package com.barber.common.infrastructure.readmodel;
+
+import com.barber.common.domain.event.BarberProfileChanged;
+import com.barber.common.domain.valueobject.Address;
+import com.barber.common.infrastructure.event.BroadcastDomainEvent;
+import com.barber.common.infrastructure.event.ProjectionResyncRequested;
+import com.barber.entity.BarberProfile;
+import com.barber.exception.BadRequestException;
+import com.barber.repository.BarberProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * INFRASTRUCTURE: BarberReadModel
+ *
+ * In-memory, denormalized read model of approved barbers for discovery listings.
+ *
+ * - Built from the database once the application is ready
+ * - Refreshed per barber from {@link BarberProfileChanged} events, which the outbox broadcasts
+ *   to every instance
+ * - Listings are served from precomputed snapshots ordered by ranking score, globally and per city,
+ *   so the common case is a sublist without scanning or joining normalized tables
+ * - A single-barber refresh only moves that barber within the ranked lists and grid cells,
+ *   so rating flushes do not re-sort the catalog on the thread delivering the broadcast
+ * - Each snapshot carries a {@link GeoGridIndex} for radius and nearest-barber queries
+ * - A {@link BarberTextIndex} is updated per barber for full-text and typeahead search
+ *
+ * Each instance maintains its own copy; it is rebuilt when the broadcast may have missed events.
+ */
+@Component
+@Slf4j
+public class BarberReadModel {
+
+    /**
+     * Default listing order: highest ranking score first, then best rated and most reviewed
+     */
+    static final Comparator<BarberSummary> RANKING_ORDER = Comparator
+        .comparing(BarberSummary::rankingScore, Comparator.reverseOrder())
+        .thenComparing(BarberSummary::averageRating, Comparator.reverseOrder())
+        .thenComparing(BarberSummary::totalReviews, Comparator.reverseOrder())
+        .thenComparing(BarberSummary::id);
+
+    private static final Map<String, Comparator<BarberSummary>> SORTABLE_PROPERTIES = Map.of(
+        "id", Comparator.comparing(BarberSummary::id),
+        "shopName", Comparator.comparing(BarberSummary::shopName, String.CASE_INSENSITIVE_ORDER),
+        "city", Comparator.comparing(BarberSummary::city),
+        "district", Comparator.comparing(BarberSummary::district),
+        "averageRating", Comparator.comparing(BarberSummary::averageRating),
+        "totalReviews", Comparator.comparing(BarberSummary::totalReviews),
+        "rankingScore", Comparator.comparing(BarberSummary::rankingScore),
+        "createdAt", Comparator.comparing(BarberSummary::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+    );
+
+    private final BarberProfileRepository barberProfileRepository;
+    private final TransactionTemplate readTransaction;
+
+    private final Map<Long, BarberSummary> summaries = new HashMap<>();
+    private final BarberTextIndex textIndex = new BarberTextIndex();
+    private volatile Snapshot snapshot;
+
+    public BarberReadModel(BarberProfileRepository barberProfileRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.barberProfileRepository = barberProfileRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        // Deliberately not read-only, which would route to a read replica: a lagging replica can
+        // return the row as it was before the change being applied, and the stale copy would stay
+        // in the model until the barber changes again
+        // Event handlers run after the publishing transaction committed
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Rebuild the whole read model from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<BarberSummary> loaded = readTransaction.execute(status ->
+            barberProfileRepository.findApprovedBarbersWithServices().stream()
+                .map(BarberSummary::from)
+                .toList());
+
+        summaries.clear();
+        textIndex.clear();
+        for (BarberSummary summary : loaded) {
+            summaries.put(summary.id(), summary);
+            textIndex.index(summary);
+        }
+        publishSnapshot();
+        log.info("Barber read model built with {} approved barbers", summaries.size());
+    }
+
+    /**
+     * Reload a single barber; barbers that are no longer approved are dropped
+     *
+     * @param barberProfileId The barber profile ID
+     */
+    public synchronized void refresh(Long barberProfileId) {
+        if (snapshot == null) {
+            // Not built yet; the initial build will pick the change up
+            return;
+        }
+
+        Optional<BarberSummary> loaded = readTransaction.execute(status ->
+            barberProfileRepository.findByIdWithServices(barberProfileId)
+                .filter(BarberProfile::isApproved)
+                .map(BarberSummary::from));
+
+        BarberSummary previous;
+        if (loaded.isPresent()) {
+            previous = summaries.put(barberProfileId, loaded.get());
+            textIndex.index(loaded.get());
+        } else {
+            previous = summaries.remove(barberProfileId);
+            textIndex.remove(barberProfileId);
+        }
+        if (previous != null || loaded.isPresent()) {
+            publishChange(previous, loaded.orElse(null));
+        }
+    }
+
+    @EventListener
+    public void on(BroadcastDomainEvent<BarberProfileChanged> broadcast) {
+        log.debug("Refreshing read model of barber {}", broadcast.event().getBarberProfileId());
+        refresh(broadcast.event().getBarberProfileId());
+    }
+
+    @EventListener
+    public void on(ProjectionResyncRequested event) {
+        rebuild();
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Page through approved barbers, optionally filtered by city and district
+     *
+     * @param city City filter (optional)
+     * @param district District filter (optional)
+     * @param pageable Page request; sorts on unknown properties are rejected
+     * @return Page of barber summaries
+     */
+    public Page<BarberSummary> findApproved(String city, String district, Pageable pageable) {
+        Snapshot current = currentSnapshot();
+
+        List<BarberSummary> candidates = city != null
+            ? current.rankedByCity().getOrDefault(city, List.of())
+            : current.ranked();
+        if (district != null) {
+            candidates = candidates.stream()
+                .filter(summary -> district.equals(summary.district()))
+                .toList();
+        }
+
+        Comparator<BarberSummary> order = toComparator(pageable.getSort());
+        if (order != null) {
+            candidates = candidates.stream().sorted(order).toList();
+        }
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(candidates, pageable, candidates.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), candidates.size());
+        int to = Math.min(from + pageable.getPageSize(), candidates.size());
+        return new PageImpl<>(candidates.subList(from, to), pageable, candidates.size());
+    }
+
+    /**
+     * Highest ranked approved barbers at or above a minimum average rating
+     *
+     * @param minRating Minimum average rating
+     * @param limit Maximum number of results
+     * @return Barber summaries in ranking order
+     */
+    public List<BarberSummary> findTopRated(double minRating, int limit) {
+        List<BarberSummary> ranked = currentSnapshot().ranked();
+        List<BarberSummary> result = new ArrayList<>();
+        for (BarberSummary summary : ranked) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (summary.averageRating() >= minRating) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Approved barbers near a point, nearest first.
+     * With a radius, every barber within it is a candidate; the limit turns it into a k-nearest query.
+     *
+     * @param origin Search origin
+     * @param radiusKm Search radius in km (optional)
+     * @param limit Maximum number of results
+     * @return Barbers with their distance in km
+     */
+    public List<NearbyBarber> findNearby(Address.Coordinates origin, Double radiusKm, int limit) {
+        GeoGridIndex geoIndex = currentSnapshot().geoIndex();
+        if (radiusKm != null && radiusKm <= GeoGridIndex.BOX_SCAN_MAX_RADIUS_KM) {
+            // Small radius: scanning the covering cells beats ring expansion bookkeeping
+            return geoIndex.withinRadius(origin, radiusKm, limit);
+        }
+        return geoIndex.nearest(origin, limit, radiusKm);
+    }
+
+    /**
+     * Full-text search with prefix matching on every query term.
+     * Results are ordered by match score, then by ranking.
+     *
+     * @param query Free text query (Turkish case and diacritics insensitive)
+     * @param city City filter (optional)
+     * @param limit Maximum number of results
+     * @return Matching barber summaries
+     */
+    public List<BarberSummary> search(String query, String city, int limit) {
+        Map<Long, Integer> scores = textIndex.search(TurkishFolding.terms(query));
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BarberSummary> byId = currentSnapshot().byId();
+        String foldedCity = city != null ? TurkishFolding.fold(city) : null;
+        return scores.entrySet().stream()
+            .filter(entry -> byId.containsKey(entry.getKey()))
+            .filter(entry -> foldedCity == null
+                || foldedCity.equals(TurkishFolding.fold(byId.get(entry.getKey()).city())))
+            .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                .thenComparing(entry -> byId.get(entry.getKey()), RANKING_ORDER))
+            .limit(limit)
+            .map(entry -> byId.get(entry.getKey()))
+            .toList();
+    }
+
+    public int size() {
+        return currentSnapshot().ranked().size();
+    }
+
+    // ==================== INTERNALS ====================
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Requests arriving before the application is ready build the model on demand
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private void publishSnapshot() {
+        List<BarberSummary> ranked = summaries.values().stream()
+            .sorted(RANKING_ORDER)
+            .toList();
+        Map<String, List<BarberSummary>> rankedByCity = ranked.stream()
+            .collect(Collectors.groupingBy(BarberSummary::city, Collectors.toUnmodifiableList()));
+        snapshot = new Snapshot(ranked, Map.copyOf(summaries), Map.copyOf(rankedByCity), GeoGridIndex.build(ranked));
+    }
+
+    /**
+     * Publish a snapshot that differs from the current one by a single barber.
+     * Only that barber is moved within the ranked lists and the grid cells it leaves or enters;
+     * every other list and cell is shared with the previous snapshot.
+     *
+     * @param previous The barber as currently published, null if newly approved
+     * @param current The barber as reloaded, null if dropped
+     */
+    private void publishChange(BarberSummary previous, BarberSummary current) {
+        Snapshot published = snapshot;
+
+        Map<Long, BarberSummary> byId = new HashMap<>(published.byId());
+        if (current != null) {
+            byId.put(current.id(), current);
+        } else {
+            byId.remove(previous.id());
+        }
+
+        Map<String, List<BarberSummary>> rankedByCity = new HashMap<>(published.rankedByCity());
+        if (previous != null) {
+            List<BarberSummary> remaining = reposition(rankedByCity.get(previous.city()), previous, null);
+            if (remaining.isEmpty()) {
+                rankedByCity.remove(previous.city());
+            } else {
+                rankedByCity.put(previous.city(), remaining);
+            }
+        }
+        if (current != null) {
+            rankedByCity.put(current.city(), reposition(rankedByCity.get(current.city()), null, current));
+        }
+
+        snapshot = new Snapshot(
+            reposition(published.ranked(), previous, current),
+            Collections.unmodifiableMap(byId),
+            Collections.unmodifiableMap(rankedByCity),
+            published.geoIndex().replace(previous, current));
+    }
+
+    /**
+     * Copy of a list in ranking order with one barber removed and/or inserted at its rank
+     */
+    private static List<BarberSummary> reposition(List<BarberSummary> ranked, BarberSummary remove, BarberSummary insert) {
+        List<BarberSummary> result = ranked != null ? new ArrayList<>(ranked) : new ArrayList<>();
+        if (remove != null) {
+            // RANKING_ORDER ends with the id, so a published summary is found exactly
+            int index = Collections.binarySearch(result, remove, RANKING_ORDER);
+            if (index >= 0) {
+                result.remove(index);
+            }
+        }
+        if (insert != null) {
+            int index = Collections.binarySearch(result, insert, RANKING_ORDER);
+            result.add(index >= 0 ? index : -index - 1, insert);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Comparator for a requested sort, or null when the precomputed ranking order already matches
+     */
+    private static Comparator<BarberSummary> toComparator(Sort sort) {
+        if (sort.isUnsorted() || isRankingOrder(sort)) {
+            return null;
+        }
+
+        Comparator<BarberSummary> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<BarberSummary> property = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                throw new BadRequestException("Geçersiz sıralama alanı: " + order.getProperty());
+            }
+            if (order.isDescending()) {
+                property = property.reversed();
+            }
+            comparator = comparator == null ? property : comparator.thenComparing(property);
+        }
+        return Objects.requireNonNull(comparator).thenComparing(BarberSummary::id);
+    }
+
+    private static boolean isRankingOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1
+            && orders.get(0).getProperty().equals("rankingScore")
+            && orders.get(0).isDescending();
+    }
+
+    private record Snapshot(List<BarberSummary> ranked,
+                            Map<Long, BarberSummary> byId,
+                            Map<String, List<BarberSummary>> rankedByCity,
+                            GeoGridIndex geoIndex) {}
+
+    /**
+     * A barber with its distance from a search origin
+     */
+    public record NearbyBarber(BarberSummary barber, double distanceKm) {}
+}
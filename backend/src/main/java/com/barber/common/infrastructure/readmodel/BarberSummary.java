@@ -0,0 +1,70 @@
+package com.barber.common.infrastructure.readmodel;
+
+import com.barber.entity.BarberProfile;
+import com.barber.entity.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * READ MODEL: BarberSummary
+ *
+ * Denormalized, immutable listing row of an approved barber: profile columns,
+ * rating, ranking score and the price range, names and descriptions of its active services.
+ */
+public record BarberSummary(
+        Long id,
+        String shopName,
+        String description,
+        String city,
+        String district,
+        Double latitude,
+        Double longitude,
+        String profileImage,
+        Double averageRating,
+        Integer totalReviews,
+        Double rankingScore,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        List<String> serviceNames,
+        List<String> serviceDescriptions,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * Build a summary from a profile whose services are loaded
+     */
+    public static BarberSummary from(BarberProfile profile) {
+        List<Service> activeServices = profile.getActiveServices();
+        BigDecimal minPrice = activeServices.stream()
+            .map(Service::getPrice)
+            .min(Comparator.naturalOrder())
+            .orElse(null);
+        BigDecimal maxPrice = activeServices.stream()
+            .map(Service::getPrice)
+            .max(Comparator.naturalOrder())
+            .orElse(null);
+
+        return new BarberSummary(
+            profile.getId(),
+            profile.getShopName(),
+            profile.getDescription(),
+            profile.getCity(),
+            profile.getDistrict(),
+            profile.getLatitude(),
+            profile.getLongitude(),
+            profile.getProfileImage(),
+            profile.getAverageRating(),
+            profile.getTotalReviews(),
+            profile.getRankingScore(),
+            minPrice,
+            maxPrice,
+            activeServices.stream().map(Service::getName).toList(),
+            activeServices.stream().map(Service::getDescription).filter(Objects::nonNull).toList(),
+            profile.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,144 @@
+package com.barber.common.infrastructure.readmodel;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * INFRASTRUCTURE: BarberTextIndex
+ *
+ * In-process inverted index over barber shop names, descriptions, districts and
+ * active service names/descriptions.
+ *
+ * - Terms are folded with {@link TurkishFolding} before indexing and querying
+ * - Terms are kept in a sorted map, so prefix (typeahead) lookups are a range scan
+ * - Postings carry a field weight (shop name > service name/district > descriptions)
+ * - Barbers are re-indexed individually when their summary changes
+ */
+final class BarberTextIndex {
+
+    static final int SHOP_NAME_WEIGHT = 4;
+    static final int SERVICE_NAME_WEIGHT = 3;
+    static final int DISTRICT_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Integer>> termsByBarber = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Index (or re-index) a barber
+     */
+    void index(BarberSummary summary) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, summary.shopName(), SHOP_NAME_WEIGHT);
+        addTerms(terms, summary.district(), DISTRICT_WEIGHT);
+        addTerms(terms, summary.description(), DESCRIPTION_WEIGHT);
+        for (String serviceName : summary.serviceNames()) {
+            addTerms(terms, serviceName, SERVICE_NAME_WEIGHT);
+        }
+        for (String serviceDescription : summary.serviceDescriptions()) {
+            addTerms(terms, serviceDescription, DESCRIPTION_WEIGHT);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(summary.id());
+            terms.forEach((term, weight) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(summary.id(), weight));
+            termsByBarber.put(summary.id(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a barber from the index
+     */
+    void remove(Long barberProfileId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(barberProfileId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByBarber.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Score barbers matching every query term as a prefix.
+     * A barber's score for a term is the best field weight among the indexed terms it prefixes.
+     *
+     * @param queryTerms Folded query terms
+     * @return Matching barber IDs with their total score
+     */
+    Map<Long, Integer> search(List<String> queryTerms) {
+        if (queryTerms.isEmpty()) {
+            return Map.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = null;
+            for (String queryTerm : queryTerms) {
+                Map<Long, Integer> termScores = prefixScores(queryTerm);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // AND semantics: keep barbers matching all terms so far
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Integer> prefixScores(String prefix) {
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Map<Long, Integer> posting : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            posting.forEach((id, weight) -> scores.merge(id, weight, Math::max));
+        }
+        return scores;
+    }
+
+    private void removeLocked(Long barberProfileId) {
+        Map<String, Integer> previous = termsByBarber.remove(barberProfileId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(barberProfileId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String term : TurkishFolding.terms(text)) {
+            terms.merge(term, weight, Math::max);
+        }
+    }
+}
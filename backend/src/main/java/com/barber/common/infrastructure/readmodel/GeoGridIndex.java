@@ -0,0 +1,208 @@
+package com.barber.common.infrastructure.readmodel;
+
+import com.barber.common.domain.valueobject.Address;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * INFRASTRUCTURE: GeoGridIndex
+ *
+ * Immutable fixed-size grid (geohash-like bucketing) over barber coordinates.
+ * A point falls into the cell (floor(lat / CELL_DEGREES), floor(lon / CELL_DEGREES)),
+ * so radius queries only visit the cells overlapping the search box and k-nearest
+ * queries expand ring by ring around the origin instead of scanning every barber.
+ *
+ * Barbers without coordinates are not indexed.
+ */
+final class GeoGridIndex {
+
+    /**
+     * ~1.1 km in latitude, a few shops per cell in dense districts
+     */
+    static final double CELL_DEGREES = 0.01;
+
+    /**
+     * Up to this radius a box scan covers at most a few hundred cells
+     */
+    static final double BOX_SCAN_MAX_RADIUS_KM = 10.0;
+
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final Map<Long, List<BarberSummary>> cells;
+    private final int size;
+
+    private GeoGridIndex(Map<Long, List<BarberSummary>> cells, int size) {
+        this.cells = cells;
+        this.size = size;
+    }
+
+    static GeoGridIndex build(Collection<BarberSummary> summaries) {
+        Map<Long, List<BarberSummary>> cells = new HashMap<>();
+        int size = 0;
+        for (BarberSummary summary : summaries) {
+            if (!hasCoordinates(summary)) {
+                continue;
+            }
+            cells.computeIfAbsent(cellKeyOf(summary), k -> new ArrayList<>()).add(summary);
+            size++;
+        }
+        return new GeoGridIndex(cells, size);
+    }
+
+    /**
+     * Index with one barber moved, removed or added. Only the cells it leaves or enters are
+     * copied; all other cells are shared with this index.
+     *
+     * @param previous The barber as currently indexed (optional)
+     * @param current The barber to index instead (optional)
+     */
+    GeoGridIndex replace(BarberSummary previous, BarberSummary current) {
+        Map<Long, List<BarberSummary>> replaced = new HashMap<>(cells);
+        int replacedSize = size;
+        if (previous != null && hasCoordinates(previous)) {
+            long key = cellKeyOf(previous);
+            List<BarberSummary> cell = new ArrayList<>(replaced.getOrDefault(key, List.of()));
+            if (cell.removeIf(summary -> summary.id().equals(previous.id()))) {
+                replacedSize--;
+            }
+            if (cell.isEmpty()) {
+                replaced.remove(key);
+            } else {
+                replaced.put(key, cell);
+            }
+        }
+        if (current != null && hasCoordinates(current)) {
+            long key = cellKeyOf(current);
+            List<BarberSummary> cell = new ArrayList<>(replaced.getOrDefault(key, List.of()));
+            cell.add(current);
+            replaced.put(key, cell);
+            replacedSize++;
+        }
+        return new GeoGridIndex(replaced, replacedSize);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * All indexed barbers within a radius, nearest first
+     *
+     * @param origin Search origin
+     * @param radiusKm Search radius in km
+     * @param limit Maximum number of results
+     */
+    List<BarberReadModel.NearbyBarber> withinRadius(Address.Coordinates origin, double radiusKm, int limit) {
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double lonSpan = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(origin.getLatitude())), 0.01));
+
+        int minLatCell = cellOf(origin.getLatitude() - latSpan);
+        int maxLatCell = cellOf(origin.getLatitude() + latSpan);
+        int minLonCell = cellOf(origin.getLongitude() - lonSpan);
+        int maxLonCell = cellOf(origin.getLongitude() + lonSpan);
+
+        List<BarberReadModel.NearbyBarber> result = new ArrayList<>();
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                collect(latCell, lonCell, origin, radiusKm, result);
+            }
+        }
+        return nearestFirst(result, limit);
+    }
+
+    /**
+     * The k nearest indexed barbers, optionally bounded by a radius
+     *
+     * Rings of cells are visited outward from the origin's cell. Anything in ring r or beyond is
+     * at least r - 1 cell widths away, so the search stops once k hits are closer than that bound.
+     *
+     * @param origin Search origin
+     * @param k Number of barbers wanted
+     * @param maxRadiusKm Optional radius bound in km
+     */
+    List<BarberReadModel.NearbyBarber> nearest(Address.Coordinates origin, int k, Double maxRadiusKm) {
+        int originLat = cellOf(origin.getLatitude());
+        int originLon = cellOf(origin.getLongitude());
+        double radius = maxRadiusKm != null ? maxRadiusKm : Double.MAX_VALUE;
+
+        // Narrowest cell side near the origin (longitude cells shrink towards the poles)
+        double cellKm = CELL_DEGREES * KM_PER_DEGREE
+            * Math.max(Math.cos(Math.toRadians(Math.min(Math.abs(origin.getLatitude()) + 1, 89))), 0.01);
+
+        List<BarberReadModel.NearbyBarber> found = new ArrayList<>();
+        int visited = 0;
+        for (int ring = 0; visited < size; ring++) {
+            // Minimum distance of any barber not visited yet
+            double ringBoundKm = Math.max(ring - 1, 0) * cellKm;
+            if (ringBoundKm > radius) {
+                break;
+            }
+            if (found.size() >= k) {
+                found = new ArrayList<>(nearestFirst(found, found.size()));
+                if (found.get(k - 1).distanceKm() <= ringBoundKm) {
+                    break;
+                }
+            }
+            visited += visitRing(originLat, originLon, ring, origin, radius, found);
+        }
+        return nearestFirst(found, k);
+    }
+
+    private int visitRing(int originLat, int originLon, int ring, Address.Coordinates origin,
+                          double radiusKm, List<BarberReadModel.NearbyBarber> out) {
+        int visited = 0;
+        for (int dLat = -ring; dLat <= ring; dLat++) {
+            boolean edgeRow = Math.abs(dLat) == ring;
+            // Inner rows only contribute their two edge cells
+            int step = edgeRow ? 1 : Math.max(2 * ring, 1);
+            for (int dLon = -ring; dLon <= ring; dLon += step) {
+                visited += collect(originLat + dLat, originLon + dLon, origin, radiusKm, out);
+            }
+        }
+        return visited;
+    }
+
+    private int collect(int latCell, int lonCell, Address.Coordinates origin, double radiusKm,
+                        List<BarberReadModel.NearbyBarber> out) {
+        List<BarberSummary> cell = cells.get(cellKey(latCell, lonCell));
+        if (cell == null) {
+            return 0;
+        }
+        for (BarberSummary summary : cell) {
+            double distance = origin.distanceToInKm(new Address.Coordinates(summary.latitude(), summary.longitude()));
+            if (distance <= radiusKm) {
+                out.add(new BarberReadModel.NearbyBarber(summary, distance));
+            }
+        }
+        return cell.size();
+    }
+
+    private static List<BarberReadModel.NearbyBarber> nearestFirst(List<BarberReadModel.NearbyBarber> hits, int limit) {
+        return hits.stream()
+            .sorted(Comparator.comparingDouble(BarberReadModel.NearbyBarber::distanceKm)
+                .thenComparing(hit -> hit.barber().id()))
+            .limit(limit)
+            .toList();
+    }
+
+    private static boolean hasCoordinates(BarberSummary summary) {
+        return summary.latitude() != null && summary.longitude() != null;
+    }
+
+    private static long cellKeyOf(BarberSummary summary) {
+        return cellKey(cellOf(summary.latitude()), cellOf(summary.longitude()));
+    }
+
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+    }
+}
@@ -0,0 +1,49 @@
+package com.barber.common.infrastructure.readmodel;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Turkish-aware case and diacritic folding for search terms.
+ *
+ * Text is lowercased with Turkish rules (I -> ı, İ -> i) and then folded to ASCII
+ * (ı -> i, ş -> s, ğ -> g, ç -> c, ö -> o, ü -> u), so "İSTANBUL", "istanbul" and
+ * "Istanbul" as well as "Kuaför" and "kuafor" produce the same term.
+ */
+final class TurkishFolding {
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr-TR");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TurkishFolding() {
+    }
+
+    /**
+     * Fold a text into a single normalized string
+     */
+    static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String lower = text.toLowerCase(TURKISH).replace('ı', 'i');
+        // Decompose and drop accents: ş, ğ, ç, ö, ü, â, î, û and the dot of i̇
+        return COMBINING_MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    /**
+     * Split a text into folded terms
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : SEPARATORS.split(fold(text))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+}
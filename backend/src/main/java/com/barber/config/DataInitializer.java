@@ -14,6 +14,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import java.math.BigDecimal;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
@@ -142,10 +144,12 @@ public class DataInitializer {
                 .build();
             profile = barberProfileRepository.save(profile);
             
-            // Create services
-            createService(profile, "Saç Kesimi", "Klasik erkek saç kesimi", 30, 150);
-            createService(profile, "Sakal Tıraşı", "Ustura ile profesyonel tıraş", 20, 100);
-            createService(profile, "Saç + Sakal", "Komple bakım paketi", 45, 220);
+            // Create services (one batched insert)
+            serviceRepository.saveAll(List.of(
+                buildService(profile, "Saç Kesimi", "Klasik erkek saç kesimi", 30, 150),
+                buildService(profile, "Sakal Tıraşı", "Ustura ile profesyonel tıraş", 20, 100),
+                buildService(profile, "Saç + Sakal", "Komple bakım paketi", 45, 220)
+            ));
             
             // Create working hours (Mon-Sat 09:00-19:00, Sunday closed)
             createWorkingHours(profile);
@@ -154,8 +158,8 @@ public class DataInitializer {
         }
     }
     
-    private void createService(BarberProfile profile, String name, String description, int duration, double price) {
-        com.barber.entity.Service service = com.barber.entity.Service.builder()
+    private com.barber.entity.Service buildService(BarberProfile profile, String name, String description, int duration, double price) {
+        return com.barber.entity.Service.builder()
             .barberProfile(profile)
             .name(name)
             .description(description)
@@ -163,10 +167,10 @@ public class DataInitializer {
             .price(BigDecimal.valueOf(price))
             .isActive(true)
             .build();
-        serviceRepository.save(service);
     }
     
     private void createWorkingHours(BarberProfile profile) {
+        List<WorkingHours> week = new ArrayList<>();
         for (DayOfWeek day : DayOfWeek.values()) {
             boolean isClosed = (day == DayOfWeek.SUNDAY);
             WorkingHours wh = WorkingHours.builder()
@@ -176,7 +180,8 @@ public class DataInitializer {
                 .endTime(isClosed ? null : LocalTime.of(19, 0))
                 .isClosed(isClosed)
                 .build();
-            workingHoursRepository.save(wh);
+            week.add(wh);
         }
+        workingHoursRepository.saveAll(week);
     }
 }
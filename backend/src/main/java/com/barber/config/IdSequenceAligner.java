@@ -0,0 +1,55 @@
+package com.barber.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the id sequences past the ids already in use (production only).
+ *
+ * Entity ids come from pooled sequences so that inserts can be batched. Rows created
+ * while ids were still identity columns are unknown to the sequences that the migrations
+ * create, so each sequence is raised to the highest existing id before the first insert.
+ * Sequences that are already ahead are left unchanged.
+ */
+@Component
+@Profile("prod")
+@DependsOn("entityManagerFactory") // Migrations have run (and created the sequences) by then
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceAligner {
+
+    // Sequence -> table whose ids it generates
+    private static final Map<String, String> SEQUENCES = Map.of(
+        "users_seq", "users",
+        "barber_profiles_seq", "barber_profiles",
+        "services_seq", "services",
+        "working_hours_seq", "working_hours",
+        "appointments_seq", "appointments",
+        "reviews_seq", "reviews",
+        "outbox_events_seq", "outbox_events"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void alignSequences() {
+        SEQUENCES.forEach((sequence, table) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (maxId == null) {
+                return;
+            }
+            // After setval(maxId) the next block handed out by the pooled optimizer starts at maxId + 1
+            Long value = jdbcTemplate.queryForObject(
+                "SELECT setval('" + sequence + "', GREATEST(?, (SELECT last_value FROM " + sequence + ")))",
+                Long.class, maxId);
+            log.debug("Sequence {} aligned to {} (max id {})", sequence, value, maxId);
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.barber.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings (read-replicas.* in application.yml)
+ */
+@Data
+@ConfigurationProperties(prefix = "read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+
+    /**
+     * Replicas further behind the primary are skipped until they catch up
+     */
+    private double maxLagSeconds = 5;
+
+    /**
+     * Query returning a replica's lag in seconds
+     */
+    private String lagQuery = "SELECT 0";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 5;
+    }
+}
@@ -0,0 +1,12 @@
+package com.barber.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (outbox dispatch, rating updates and housekeeping)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -15,6 +15,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -23,6 +24,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -59,6 +61,8 @@ public class SecurityConfig {
                 .requestMatchers("/api/barbers/services/**").hasRole("BARBER")
                 .requestMatchers("/api/barbers/working-hours/**").hasRole("BARBER")
 
+                .requestMatchers(HttpMethod.POST, "/api/appointments/import").hasRole("BARBER")
+
                 // Customer endpoints
                 .requestMatchers("/api/appointments/**").hasAnyRole("CUSTOMER", "BARBER")
                 .requestMatchers("/api/reviews/**").hasRole("CUSTOMER")
@@ -85,9 +89,17 @@ public class SecurityConfig {
         return source;
     }
     
+    /**
+     * New hashes are stored as {bcrypt} with the configured strength.
+     * Legacy hashes without an algorithm prefix are verified as bcrypt, and any hash that is not
+     * in the current format is re-encoded on the next successful login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
     
     @Bean
@@ -1,6 +1,7 @@
 package com.barber.controller;
 
 import com.barber.dto.BarberDto;
+import com.barber.dto.CacheDto;
 import com.barber.dto.ReviewDto;
 import com.barber.service.AdminService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -53,4 +54,16 @@ public class AdminController {
             @Valid @RequestBody ReviewDto.UpdateVisibilityRequest request) {
         return ResponseEntity.ok(adminService.updateReviewVisibility(id, request));
     }
+    
+    @GetMapping("/cache/schedule")
+    @Operation(summary = "Takvim önbelleği", description = "Kuaför takvim önbelleği istatistiklerini getir")
+    public ResponseEntity<CacheDto.CacheStatsResponse> getScheduleCacheStats() {
+        return ResponseEntity.ok(adminService.getScheduleCacheStats());
+    }
+    
+    @GetMapping("/cache/second-level")
+    @Operation(summary = "Hibernate önbelleği", description = "İkinci seviye önbellek bölgelerinin istatistiklerini getir")
+    public ResponseEntity<List<CacheDto.CacheStatsResponse>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(adminService.getSecondLevelCacheStats());
+    }
 }
@@ -1,8 +1,10 @@
 package com.barber.controller;
 
 import com.barber.dto.AppointmentDto;
+import com.barber.dto.CursorPage;
 import com.barber.entity.Role;
-import com.barber.security.CustomUserDetailsService;
+import com.barber.security.AuthenticatedUser;
+import com.barber.service.AppointmentImportService;
 import com.barber.service.AppointmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,10 +13,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import java.io.InputStream;
 import java.time.LocalDate;
 
 @RestController
@@ -24,47 +28,67 @@ import java.time.LocalDate;
 public class AppointmentController {
     
     private final AppointmentService appointmentService;
-    private final CustomUserDetailsService userDetailsService;
+    private final AppointmentImportService appointmentImportService;
     
     @PostMapping
     @Operation(summary = "Randevu oluştur", description = "Yeni randevu oluştur")
     public ResponseEntity<AppointmentDto.AppointmentResponse> createAppointment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Valid @RequestBody AppointmentDto.CreateAppointmentRequest request) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+        Long userId = principal.getId();
         return ResponseEntity.ok(appointmentService.createAppointment(userId, request));
     }
     
+    @PostMapping("/import")
+    @Operation(summary = "Randevu aktar", description = "Başka bir sistemden CSV veya JSON satırları olarak gelen gelecek randevuları toplu aktar")
+    public ResponseEntity<AppointmentDto.ImportResponse> importAppointments(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) MediaType contentType,
+            InputStream body) {
+        return ResponseEntity.ok(appointmentImportService.importAppointments(principal.getId(), body, contentType));
+    }
+    
     @GetMapping
     @Operation(summary = "Randevularım", description = "Kullanıcının randevularını listele")
     public ResponseEntity<Page<AppointmentDto.AppointmentResponse>> getMyAppointments(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             Pageable pageable) {
-        var user = userDetailsService.getUserByEmail(userDetails.getUsername());
-        
-        if (user.getRole() == Role.BARBER) {
-            return ResponseEntity.ok(appointmentService.getBarberAppointments(user.getId(), pageable));
+        if (principal.getRole() == Role.BARBER) {
+            return ResponseEntity.ok(appointmentService.getBarberAppointments(principal.getId(), pageable));
+        } else {
+            return ResponseEntity.ok(appointmentService.getCustomerAppointments(principal.getId(), pageable));
+        }
+    }
+    
+    @GetMapping("/history")
+    @Operation(summary = "Randevu geçmişi", description = "Randevuları sayfa belirteci ile listele (sonsuz kaydırma, toplam sayı yok)")
+    public ResponseEntity<CursorPage<AppointmentDto.AppointmentResponse>> getAppointmentHistory(
+            @AuthenticationPrincipal AuthenticatedUser principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (principal.getRole() == Role.BARBER) {
+            return ResponseEntity.ok(appointmentService.getBarberAppointmentHistory(principal.getId(), cursor, size));
         } else {
-            return ResponseEntity.ok(appointmentService.getCustomerAppointments(user.getId(), pageable));
+            return ResponseEntity.ok(appointmentService.getCustomerAppointmentHistory(principal.getId(), cursor, size));
         }
     }
     
     @PatchMapping("/{id}/status")
     @Operation(summary = "Durum güncelle", description = "Randevu durumunu güncelle")
     public ResponseEntity<AppointmentDto.AppointmentResponse> updateStatus(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PathVariable Long id,
             @Valid @RequestBody AppointmentDto.UpdateStatusRequest request) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+        Long userId = principal.getId();
         return ResponseEntity.ok(appointmentService.updateStatus(userId, id, request));
     }
     
     @DeleteMapping("/{id}")
     @Operation(summary = "Randevu iptal", description = "Randevuyu iptal et")
     public ResponseEntity<Void> cancelAppointment(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PathVariable Long id) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+        Long userId = principal.getId();
         appointmentService.cancelAppointment(userId, id);
         return ResponseEntity.noContent().build();
     }
@@ -77,4 +101,14 @@ public class AppointmentController {
             @RequestParam(required = false) Integer serviceDuration) {
         return ResponseEntity.ok(appointmentService.getAvailableSlots(barberProfileId, date, serviceDuration));
     }
+    
+    @GetMapping("/barbers/{barberProfileId}/calendar")
+    @Operation(summary = "Müsaitlik takvimi", description = "Tarih aralığındaki her gün için müsaitlik özetini getir")
+    public ResponseEntity<AppointmentDto.AvailabilityCalendarResponse> getAvailabilityCalendar(
+            @PathVariable Long barberProfileId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer serviceDuration) {
+        return ResponseEntity.ok(appointmentService.getAvailabilityCalendar(barberProfileId, from, to, serviceDuration));
+    }
 }
@@ -1,6 +1,7 @@
 package com.barber.controller;
 
 import com.barber.dto.AuthDto;
+import com.barber.security.AuthenticatedUser;
 import com.barber.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -8,8 +9,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -21,19 +22,19 @@ public class AuthController {
     
     @PostMapping("/register")
     @Operation(summary = "Kullanıcı kaydı", description = "Yeni müşteri veya kuaför kaydı oluştur")
-    public ResponseEntity<AuthDto.AuthResponse> register(@Valid @RequestBody AuthDto.RegisterRequest request) {
-        return ResponseEntity.ok(authService.register(request));
+    public CompletableFuture<ResponseEntity<AuthDto.AuthResponse>> register(@Valid @RequestBody AuthDto.RegisterRequest request) {
+        return authService.register(request).thenApply(ResponseEntity::ok);
     }
     
     @PostMapping("/login")
     @Operation(summary = "Giriş yap", description = "E-posta ve şifre ile giriş yap")
-    public ResponseEntity<AuthDto.AuthResponse> login(@Valid @RequestBody AuthDto.LoginRequest request) {
-        return ResponseEntity.ok(authService.login(request));
+    public CompletableFuture<ResponseEntity<AuthDto.AuthResponse>> login(@Valid @RequestBody AuthDto.LoginRequest request) {
+        return authService.login(request).thenApply(ResponseEntity::ok);
     }
     
     @GetMapping("/me")
     @Operation(summary = "Mevcut kullanıcı", description = "Giriş yapmış kullanıcının bilgilerini getir")
-    public ResponseEntity<AuthDto.UserResponse> getCurrentUser(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(authService.getCurrentUser(userDetails.getUsername()));
+    public ResponseEntity<AuthDto.UserResponse> getCurrentUser(@AuthenticationPrincipal AuthenticatedUser principal) {
+        return ResponseEntity.ok(authService.getCurrentUser(principal.getId()));
     }
 }
@@ -1,10 +1,12 @@
 package com.barber.controller;
 
 import com.barber.dto.BarberDto;
+import com.barber.dto.CursorPage;
 import com.barber.dto.ReviewDto;
 import com.barber.dto.ServiceDto;
 import com.barber.dto.WorkingHoursDto;
-import com.barber.security.CustomUserDetailsService;
+import com.barber.security.AuthenticatedUser;
+import com.barber.service.AvailabilitySearchService;
 import com.barber.service.BarberService;
 import com.barber.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,14 +14,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/barbers")
@@ -29,7 +39,10 @@ public class BarberController {
     
     private final BarberService barberService;
     private final ReviewService reviewService;
-    private final CustomUserDetailsService userDetailsService;
+    private final AvailabilitySearchService availabilitySearchService;
+    
+    @Value("${http-cache.barber-max-age-seconds:60}")
+    private long barberMaxAgeSeconds;
     
     // Public endpoints
     @GetMapping
@@ -37,20 +50,64 @@ public class BarberController {
     public ResponseEntity<Page<BarberDto.BarberListResponse>> getBarbers(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String district,
-            @PageableDefault(size = 10, sort = "averageRating", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "rankingScore", direction = Sort.Direction.DESC) Pageable pageable) {
         return ResponseEntity.ok(barberService.getApprovedBarbers(city, district, pageable));
     }
     
+    @GetMapping("/top-rated")
+    @Operation(summary = "En iyi kuaförler", description = "Puanı, değerlendirme sayısı ve güncelliğine göre en iyi onaylı kuaförleri listele")
+    public ResponseEntity<List<BarberDto.BarberListResponse>> getTopRatedBarbers(
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(barberService.getTopRatedBarbers(minRating, limit));
+    }
+    
+    @GetMapping("/search")
+    @Operation(summary = "Kuaför ara", description = "Dükkan adı, açıklama, ilçe ve hizmetlerde arama (yazarken öneri destekli)")
+    public ResponseEntity<List<BarberDto.BarberListResponse>> searchBarbers(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(barberService.searchBarbers(query, city, limit));
+    }
+    
+    @GetMapping("/nearby")
+    @Operation(summary = "Yakındaki kuaförler", description = "Konuma en yakın onaylı kuaförleri mesafeye göre listele")
+    public ResponseEntity<List<BarberDto.NearbyBarberResponse>> getNearbyBarbers(
+            @RequestParam Double latitude,
+            @RequestParam Double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(barberService.getNearbyBarbers(latitude, longitude, radiusKm, limit));
+    }
+    
+    @GetMapping("/available")
+    @Operation(summary = "İlk müsait kuaförler", description = "Zaman aralığında en erken müsait olan kuaförleri listele")
+    public ResponseEntity<List<BarberDto.AvailableBarberResponse>> getFirstAvailableBarbers(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to,
+            @RequestParam(defaultValue = "30") int serviceDuration,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(availabilitySearchService.findFirstAvailable(
+            city, district, latitude, longitude, radiusKm, date, from, to, serviceDuration, limit));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Kuaför detayı", description = "Kuaför profil detaylarını getir")
-    public ResponseEntity<BarberDto.BarberDetailResponse> getBarber(@PathVariable Long id) {
-        return ResponseEntity.ok(barberService.getBarberById(id));
+    public ResponseEntity<BarberDto.BarberDetailResponse> getBarber(@PathVariable Long id, WebRequest request) {
+        return conditionalGet(id, "profile", request, () -> barberService.getBarberById(id));
     }
     
     @GetMapping("/{id}/services")
     @Operation(summary = "Kuaför hizmetleri", description = "Kuaförün sunduğu hizmetleri listele")
-    public ResponseEntity<List<ServiceDto.ServiceResponse>> getBarberServices(@PathVariable Long id) {
-        return ResponseEntity.ok(barberService.getServices(id));
+    public ResponseEntity<List<ServiceDto.ServiceResponse>> getBarberServices(@PathVariable Long id, WebRequest request) {
+        return conditionalGet(id, "services", request, () -> barberService.getServices(id));
     }
     
     @GetMapping("/{id}/reviews")
@@ -60,36 +117,51 @@ public class BarberController {
         return ResponseEntity.ok(reviewService.getBarberReviews(id, pageable));
     }
     
+    @GetMapping("/{id}/reviews/feed")
+    @Operation(summary = "Kuaför yorum akışı", description = "Değerlendirmeleri sayfa belirteci ile listele (sonsuz kaydırma, toplam sayı yok)")
+    public ResponseEntity<CursorPage<ReviewDto.ReviewResponse>> getBarberReviewFeed(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.getBarberReviewFeed(id, cursor, size));
+    }
+    
+    @GetMapping("/{id}/rating-trends")
+    @Operation(summary = "Puan eğilimi", description = "Son 7, 30 ve 90 günün ortalama puanını genel ortalamayla karşılaştır")
+    public ResponseEntity<BarberDto.RatingTrendResponse> getRatingTrends(@PathVariable Long id) {
+        return ResponseEntity.ok(barberService.getRatingTrends(id));
+    }
+    
     @GetMapping("/{id}/working-hours")
     @Operation(summary = "Çalışma saatleri", description = "Kuaförün çalışma saatlerini getir")
-    public ResponseEntity<List<WorkingHoursDto.WorkingHoursResponse>> getWorkingHours(@PathVariable Long id) {
-        return ResponseEntity.ok(barberService.getWorkingHours(id));
+    public ResponseEntity<List<WorkingHoursDto.WorkingHoursResponse>> getWorkingHours(@PathVariable Long id, WebRequest request) {
+        return conditionalGet(id, "working-hours", request, () -> barberService.getWorkingHours(id));
     }
     
     // Barber-only endpoints
     @PostMapping("/profile")
     @Operation(summary = "Profil oluştur", description = "Kuaför profili oluştur")
     public ResponseEntity<BarberDto.BarberDetailResponse> createProfile(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Valid @RequestBody BarberDto.CreateProfileRequest request) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+        Long userId = principal.getId();
         return ResponseEntity.ok(barberService.createProfile(userId, request));
     }
     
     @PutMapping("/profile")
     @Operation(summary = "Profil güncelle", description = "Kuaför profilini güncelle")
     public ResponseEntity<BarberDto.BarberDetailResponse> updateProfile(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Valid @RequestBody BarberDto.UpdateProfileRequest request) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+        Long userId = principal.getId();
         return ResponseEntity.ok(barberService.updateProfile(userId, request));
     }
     
     @GetMapping("/profile/me")
     @Operation(summary = "Kendi profilim", description = "Giriş yapmış kuaförün profilini getir")
     public ResponseEntity<BarberDto.BarberDetailResponse> getMyProfile(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+            @AuthenticationPrincipal AuthenticatedUser principal) {
+        Long userId = principal.getId();
         return ResponseEntity.ok(barberService.getBarberByUserId(userId));
     }
     
@@ -97,28 +169,28 @@ public class BarberController {
     @PostMapping("/services")
     @Operation(summary = "Hizmet ekle", description = "Yeni hizmet ekle")
     public ResponseEntity<ServiceDto.ServiceResponse> addService(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Valid @RequestBody ServiceDto.CreateServiceRequest request) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+        Long userId = principal.getId();
         return ResponseEntity.ok(barberService.addService(userId, request));
     }
     
     @PutMapping("/services/{serviceId}")
     @Operation(summary = "Hizmet güncelle", description = "Hizmet bilgilerini güncelle")
     public ResponseEntity<ServiceDto.ServiceResponse> updateService(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PathVariable Long serviceId,
             @Valid @RequestBody ServiceDto.UpdateServiceRequest request) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+        Long userId = principal.getId();
         return ResponseEntity.ok(barberService.updateService(userId, serviceId, request));
     }
     
     @DeleteMapping("/services/{serviceId}")
     @Operation(summary = "Hizmet sil", description = "Hizmeti kaldır")
     public ResponseEntity<Void> deleteService(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @PathVariable Long serviceId) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+        Long userId = principal.getId();
         barberService.deleteService(userId, serviceId);
         return ResponseEntity.noContent().build();
     }
@@ -127,9 +199,27 @@ public class BarberController {
     @PutMapping("/working-hours")
     @Operation(summary = "Çalışma saatleri güncelle", description = "Haftalık çalışma saatlerini ayarla")
     public ResponseEntity<List<WorkingHoursDto.WorkingHoursResponse>> updateWorkingHours(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal AuthenticatedUser principal,
             @Valid @RequestBody WorkingHoursDto.BulkWorkingHoursRequest request) {
-        Long userId = userDetailsService.getUserByEmail(userDetails.getUsername()).getId();
+        Long userId = principal.getId();
         return ResponseEntity.ok(barberService.updateWorkingHours(userId, request));
     }
+    
+    /**
+     * Serve a public barber resource with a strong ETag derived from the profile revision.
+     * A matching If-None-Match is answered with 304 after reading only the revision.
+     * The revision and the body are read in one transaction, so they never come from different replicas.
+     */
+    private <T> ResponseEntity<T> conditionalGet(Long barberProfileId, String resource,
+                                                 WebRequest request, Supplier<T> body) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(barberMaxAgeSeconds)).cachePublic();
+        return barberService.readAtRevision(barberProfileId, revision -> {
+            String etag = "barber-" + barberProfileId + "-" + resource + "-r" + revision;
+            if (request.checkNotModified(etag)) {
+                // The ETag header has been set by checkNotModified
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).<T>build();
+            }
+            return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+        });
+    }
 }
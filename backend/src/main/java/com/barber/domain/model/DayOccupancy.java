@@ -0,0 +1,115 @@
+package com.barber.domain.model;
+
+import java.time.LocalTime;
+import java.util.BitSet;
+
+/**
+ * DOMAIN MODEL: DayOccupancy
+ *
+ * Per-minute occupancy bitmap of a barber's chair for a single day.
+ * Bit i is set when minute i of the day (00:00 = 0) is taken by an active appointment.
+ *
+ * Built once from the day's PENDING/CONFIRMED appointments, after which every
+ * slot question is answered with bit scans instead of a conflict query.
+ * Intervals are half-open: [start, end).
+ */
+public class DayOccupancy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final BitSet occupied = new BitSet(MINUTES_PER_DAY);
+
+    /**
+     * Create an empty (fully free) day
+     */
+    public static DayOccupancy empty() {
+        return new DayOccupancy();
+    }
+
+    /**
+     * Mark a time range as occupied
+     *
+     * @param startTime Start time (inclusive)
+     * @param endTime End time (exclusive)
+     */
+    public void occupy(LocalTime startTime, LocalTime endTime) {
+        int from = toMinute(startTime);
+        int to = toEndMinute(startTime, endTime);
+        if (from < to) {
+            occupied.set(from, to);
+        }
+    }
+
+    /**
+     * Check if a time range is completely free
+     *
+     * @param startTime Start time (inclusive)
+     * @param endTime End time (exclusive)
+     * @return true if no occupied minute falls into the range
+     */
+    public boolean isFree(LocalTime startTime, LocalTime endTime) {
+        int from = toMinute(startTime);
+        int to = toEndMinute(startTime, endTime);
+        int next = occupied.nextSetBit(from);
+        return next < 0 || next >= to;
+    }
+
+    /**
+     * Find the first start minute on a slot grid whose whole range is free.
+     * Occupied stretches are skipped with bit scans rather than probing every grid point.
+     *
+     * @param earliestStart Earliest acceptable start minute
+     * @param latestStart Latest acceptable start minute
+     * @param durationMinutes Required free duration
+     * @param gridOrigin Minute the slot grid is aligned to (usually opening time)
+     * @param stepMinutes Grid step in minutes
+     * @return First free start minute, or -1 if none fits
+     */
+    public int firstFreeMinute(int earliestStart, int latestStart, int durationMinutes, int gridOrigin, int stepMinutes) {
+        int start = alignToGrid(earliestStart, gridOrigin, stepMinutes);
+        while (start <= latestStart && start + durationMinutes <= MINUTES_PER_DAY) {
+            int busy = occupied.nextSetBit(start);
+            if (busy < 0 || busy >= start + durationMinutes) {
+                return start;
+            }
+            start = alignToGrid(occupied.nextClearBit(busy), gridOrigin, stepMinutes);
+        }
+        return -1;
+    }
+
+    /**
+     * Check if any minute of the day is occupied
+     */
+    public boolean isEmpty() {
+        return occupied.isEmpty();
+    }
+
+    /**
+     * Number of occupied minutes
+     */
+    public int occupiedMinutes() {
+        return occupied.cardinality();
+    }
+
+    private static int alignToGrid(int minute, int gridOrigin, int stepMinutes) {
+        if (minute <= gridOrigin) {
+            return gridOrigin;
+        }
+        return gridOrigin + ((minute - gridOrigin + stepMinutes - 1) / stepMinutes) * stepMinutes;
+    }
+
+    public static int toMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * End times that wrap past midnight (e.g. 23:30 + 60 min = 00:30) are clamped to end of day
+     */
+    static int toEndMinute(LocalTime startTime, LocalTime endTime) {
+        int end = toMinute(endTime);
+        if (endTime.getSecond() > 0 || endTime.getNano() > 0) {
+            end++;
+        }
+        return end <= toMinute(startTime) ? MINUTES_PER_DAY : Math.min(end, MINUTES_PER_DAY);
+    }
+}
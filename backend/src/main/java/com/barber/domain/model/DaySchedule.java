@@ -0,0 +1,102 @@
+package com.barber.domain.model;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DOMAIN MODEL: DaySchedule
+ *
+ * Immutable snapshot of a barber's day: working hours plus the booked ranges
+ * of active appointments, indexed by appointment ID.
+ * Updates return a new instance (copy-on-write), so snapshots can be shared across threads.
+ */
+public final class DaySchedule {
+
+    private static final DaySchedule CLOSED = new DaySchedule(null, null, Map.of());
+
+    private final LocalTime openingTime;
+    private final LocalTime closingTime;
+    private final Map<Long, BookedRange> bookings;
+
+    private DaySchedule(LocalTime openingTime, LocalTime closingTime, Map<Long, BookedRange> bookings) {
+        this.openingTime = openingTime;
+        this.closingTime = closingTime;
+        this.bookings = Collections.unmodifiableMap(bookings);
+    }
+
+    /**
+     * A day the shop is closed (or has no working hours)
+     */
+    public static DaySchedule closed() {
+        return CLOSED;
+    }
+
+    /**
+     * An open day with the given bookings
+     *
+     * @param openingTime Opening time
+     * @param closingTime Closing time
+     * @param bookings Booked ranges by appointment ID
+     */
+    public static DaySchedule open(LocalTime openingTime, LocalTime closingTime, Map<Long, BookedRange> bookings) {
+        return new DaySchedule(openingTime, closingTime, new HashMap<>(bookings));
+    }
+
+    public boolean isOpen() {
+        return openingTime != null && closingTime != null;
+    }
+
+    public LocalTime getOpeningTime() {
+        return openingTime;
+    }
+
+    public LocalTime getClosingTime() {
+        return closingTime;
+    }
+
+    public int getBookingCount() {
+        return bookings.size();
+    }
+
+    /**
+     * Copy of this schedule with a booking added (or replaced)
+     */
+    public DaySchedule withBooking(Long appointmentId, LocalTime startTime, LocalTime endTime) {
+        if (!isOpen()) {
+            return this;
+        }
+        Map<Long, BookedRange> copy = new HashMap<>(bookings);
+        copy.put(appointmentId, new BookedRange(startTime, endTime));
+        return new DaySchedule(openingTime, closingTime, copy);
+    }
+
+    /**
+     * Copy of this schedule with a booking released
+     */
+    public DaySchedule withoutBooking(Long appointmentId) {
+        if (!bookings.containsKey(appointmentId)) {
+            return this;
+        }
+        Map<Long, BookedRange> copy = new HashMap<>(bookings);
+        copy.remove(appointmentId);
+        return new DaySchedule(openingTime, closingTime, copy);
+    }
+
+    /**
+     * Project the booked ranges onto an occupancy bitmap
+     */
+    public DayOccupancy toOccupancy() {
+        DayOccupancy occupancy = DayOccupancy.empty();
+        for (BookedRange range : bookings.values()) {
+            occupancy.occupy(range.startTime(), range.endTime());
+        }
+        return occupancy;
+    }
+
+    /**
+     * Half-open booked range [startTime, endTime)
+     */
+    public record BookedRange(LocalTime startTime, LocalTime endTime) {}
+}
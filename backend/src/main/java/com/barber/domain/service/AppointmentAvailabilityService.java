@@ -1,9 +1,14 @@
 package com.barber.domain.service;
 
+import com.barber.common.domain.valueobject.ScheduledTimeSlot;
+import com.barber.domain.model.DayOccupancy;
+import com.barber.domain.model.DaySchedule;
 import com.barber.entity.Appointment;
+import com.barber.entity.AppointmentStatus;
 import com.barber.entity.BarberProfile;
 import com.barber.entity.WorkingHours;
 import com.barber.repository.AppointmentRepository;
+import com.barber.repository.projection.BookedInterval;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,7 +16,13 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * DOMAIN SERVICE: AppointmentAvailabilityService
@@ -28,6 +39,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AppointmentAvailabilityService {
 
+    /**
+     * Appointment statuses that keep a chair occupied
+     */
+    public static final List<AppointmentStatus> ACTIVE_STATUSES =
+            List.of(AppointmentStatus.PENDING, AppointmentStatus.CONFIRMED);
+
     private final AppointmentRepository appointmentRepository;
 
     /**
@@ -45,6 +62,11 @@ public class AppointmentAvailabilityService {
             LocalTime startTime,
             LocalTime endTime
     ) {
+        // Empty ranges and ranges wrapping past midnight are never bookable
+        if (!endTime.isAfter(startTime)) {
+            return false;
+        }
+
         // Check if barber is open on this day and time
         if (!isWithinWorkingHours(barberProfile, date, startTime, endTime)) {
             return false;
@@ -78,13 +100,14 @@ public class AppointmentAvailabilityService {
     }
 
     /**
-     * Check if there are conflicting appointments in the given time range
+     * Check if an active appointment overlaps the half-open time range [startTime, endTime)
      *
      * @param barberProfileId The barber profile ID
      * @param date The date
      * @param startTime The start time
      * @param endTime The end time
      * @return true if there are conflicts
+     * @throws IllegalArgumentException if the range is empty or wraps past midnight
      */
     public boolean hasConflictingAppointments(
             Long barberProfileId,
@@ -92,14 +115,133 @@ public class AppointmentAvailabilityService {
             LocalTime startTime,
             LocalTime endTime
     ) {
-        List<Appointment> conflicts = appointmentRepository.findConflictingAppointments(
-                barberProfileId, date, startTime, endTime
+        if (!endTime.isAfter(startTime)) {
+            throw new IllegalArgumentException(
+                    String.format("End time (%s) must be after start time (%s)", endTime, startTime));
+        }
+        return appointmentRepository.existsOverlappingAppointment(barberProfileId, date, startTime, endTime);
+    }
+
+    /**
+     * Check many candidate time slots for conflicts with a single query
+     * Only active appointments on the candidates' dates that overlap the span of all candidates
+     * are loaded; each candidate is then checked against the ones of its date in memory
+     *
+     * @param barberProfileId The barber profile ID
+     * @param candidates Candidate time slots, on one or more dates
+     * @return For each candidate (in order), true if it conflicts with an appointment
+     */
+    public List<Boolean> hasConflictingAppointments(Long barberProfileId, List<ScheduledTimeSlot> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Set<LocalDate> dates = new HashSet<>();
+        LocalTime spanStart = LocalTime.MAX;
+        LocalTime spanEnd = LocalTime.MIN;
+        for (ScheduledTimeSlot candidate : candidates) {
+            dates.add(candidate.getDate());
+            spanStart = candidate.getStartTime().isBefore(spanStart) ? candidate.getStartTime() : spanStart;
+            spanEnd = candidate.getEndTime().isAfter(spanEnd) ? candidate.getEndTime() : spanEnd;
+        }
+
+        Map<LocalDate, List<ScheduledTimeSlot>> booked = new HashMap<>();
+        for (BookedInterval interval : appointmentRepository.findOverlappingIntervals(
+                barberProfileId, dates, spanStart, spanEnd)) {
+            booked.computeIfAbsent(interval.getAppointmentDate(), date -> new ArrayList<>())
+                    .add(new ScheduledTimeSlot(interval.getAppointmentDate(), interval.getStartTime(), interval.getEndTime()));
+        }
+
+        List<Boolean> conflicts = new ArrayList<>(candidates.size());
+        for (ScheduledTimeSlot candidate : candidates) {
+            conflicts.add(booked.getOrDefault(candidate.getDate(), List.of()).stream()
+                    .anyMatch(candidate::overlapsWith));
+        }
+        return conflicts;
+    }
+
+    /**
+     * Load the barber's occupancy for a day with a single query
+     *
+     * @param barberProfileId The barber profile ID
+     * @param date The date
+     * @return Occupancy bitmap of active appointments on that date
+     */
+    public DayOccupancy loadOccupancy(Long barberProfileId, LocalDate date) {
+        return toOccupancy(appointmentRepository.findByBarberProfileIdAndAppointmentDateAndStatusIn(
+                barberProfileId, date, ACTIVE_STATUSES
+        ));
+    }
+
+    /**
+     * Load the barber's occupancy for every day of a date range with a single range query
+     * Days without active appointments are present with an empty occupancy
+     *
+     * @param barberProfileId The barber profile ID
+     * @param fromDate First date (inclusive)
+     * @param toDate Last date (inclusive)
+     * @return Occupancy bitmap per date
+     */
+    public Map<LocalDate, DayOccupancy> loadOccupancies(Long barberProfileId, LocalDate fromDate, LocalDate toDate) {
+        Map<LocalDate, DayOccupancy> occupancies = new HashMap<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            occupancies.put(date, DayOccupancy.empty());
+        }
+
+        List<Appointment> appointments = appointmentRepository.findByBarberProfileIdAndAppointmentDateBetweenAndStatusIn(
+                barberProfileId, fromDate, toDate, ACTIVE_STATUSES
         );
-        return !conflicts.isEmpty();
+        for (Appointment appointment : appointments) {
+            occupancies.get(appointment.getAppointmentDate())
+                    .occupy(appointment.getStartTime(), appointment.getEndTime());
+        }
+        return occupancies;
+    }
+
+    /**
+     * Load the barber's occupancy for a set of (not necessarily consecutive) dates with a single query
+     * Dates without active appointments are present with an empty occupancy
+     *
+     * @param barberProfileId The barber profile ID
+     * @param dates The dates
+     * @return Occupancy bitmap per date
+     */
+    public Map<LocalDate, DayOccupancy> loadOccupancies(Long barberProfileId, Collection<LocalDate> dates) {
+        Map<LocalDate, DayOccupancy> occupancies = new HashMap<>();
+        for (LocalDate date : dates) {
+            occupancies.put(date, DayOccupancy.empty());
+        }
+
+        List<Appointment> appointments = appointmentRepository.findByBarberProfileIdAndAppointmentDateInAndStatusIn(
+                barberProfileId, dates, ACTIVE_STATUSES
+        );
+        for (Appointment appointment : appointments) {
+            occupancies.get(appointment.getAppointmentDate())
+                    .occupy(appointment.getStartTime(), appointment.getEndTime());
+        }
+        return occupancies;
+    }
+
+    /**
+     * Project appointments onto an occupancy bitmap
+     * Inactive (cancelled/completed) appointments are ignored
+     *
+     * @param appointments Appointments of a single day
+     * @return Occupancy bitmap
+     */
+    public DayOccupancy toOccupancy(Collection<Appointment> appointments) {
+        DayOccupancy occupancy = DayOccupancy.empty();
+        for (Appointment appointment : appointments) {
+            if (appointment.isActive()) {
+                occupancy.occupy(appointment.getStartTime(), appointment.getEndTime());
+            }
+        }
+        return occupancy;
     }
 
     /**
      * Generate all available time slots for a barber on a specific date
+     * Appointments are loaded once; every slot is then answered from the occupancy bitmap
      *
      * @param barberProfile The barber profile
      * @param date The date to check
@@ -111,34 +253,139 @@ public class AppointmentAvailabilityService {
             LocalDate date,
             int slotDurationMinutes
     ) {
-        List<TimeSlot> slots = new ArrayList<>();
-
-        DayOfWeek dayOfWeek = date.getDayOfWeek();
-        WorkingHours workingHours = barberProfile.getWorkingHoursForDay(dayOfWeek)
+        WorkingHours workingHours = barberProfile.getWorkingHoursForDay(date.getDayOfWeek())
                 .orElse(null);
 
+        // Closed days never need the appointment query
+        if (workingHours == null || workingHours.isClosed()) {
+            return new ArrayList<>();
+        }
+
+        return generateAvailableSlots(workingHours, slotDurationMinutes,
+                loadOccupancy(barberProfile.getId(), date));
+    }
+
+    /**
+     * Generate time slots for a day from working hours and a pre-built occupancy
+     *
+     * @param workingHours Working hours of the day (may be null or closed)
+     * @param slotDurationMinutes Duration of each slot in minutes
+     * @param occupancy Occupancy bitmap of the day
+     * @return List of time slots with availability status
+     */
+    public List<TimeSlot> generateAvailableSlots(
+            WorkingHours workingHours,
+            int slotDurationMinutes,
+            DayOccupancy occupancy
+    ) {
         // If no working hours or closed, return empty list
         if (workingHours == null || workingHours.isClosed()) {
-            return slots;
+            return new ArrayList<>();
         }
 
-        // Generate slots from start to end of working hours
-        LocalTime currentSlot = workingHours.getStartTime();
-        LocalTime endOfDay = workingHours.getEndTime();
+        return generateSlots(workingHours.getStartTime(), workingHours.getEndTime(), slotDurationMinutes, occupancy);
+    }
 
-        while (currentSlot.plusMinutes(slotDurationMinutes).isBefore(endOfDay) ||
-                currentSlot.plusMinutes(slotDurationMinutes).equals(endOfDay)) {
+    /**
+     * Generate time slots for a day from a schedule snapshot
+     *
+     * @param schedule Day schedule (working hours and bookings)
+     * @param slotDurationMinutes Duration of each slot in minutes
+     * @return List of time slots with availability status
+     */
+    public List<TimeSlot> generateAvailableSlots(DaySchedule schedule, int slotDurationMinutes) {
+        if (!schedule.isOpen()) {
+            return new ArrayList<>();
+        }
 
-            LocalTime slotEnd = currentSlot.plusMinutes(slotDurationMinutes);
-            boolean available = isTimeSlotAvailable(barberProfile, date, currentSlot, slotEnd);
+        return generateSlots(schedule.getOpeningTime(), schedule.getClosingTime(), slotDurationMinutes,
+                schedule.toOccupancy());
+    }
 
-            slots.add(new TimeSlot(currentSlot, slotEnd, available));
-            currentSlot = slotEnd;
+    /**
+     * Load a day schedule snapshot: working hours of the day plus active bookings
+     *
+     * @param barberProfile The barber profile
+     * @param date The date
+     * @return Day schedule snapshot
+     */
+    public DaySchedule loadDaySchedule(BarberProfile barberProfile, LocalDate date) {
+        WorkingHours workingHours = barberProfile.getWorkingHoursForDay(date.getDayOfWeek())
+                .orElse(null);
+
+        if (workingHours == null || workingHours.isClosed()) {
+            return DaySchedule.closed();
+        }
+
+        Map<Long, DaySchedule.BookedRange> bookings = new HashMap<>();
+        for (Appointment appointment : appointmentRepository.findByBarberProfileIdAndAppointmentDateAndStatusIn(
+                barberProfile.getId(), date, ACTIVE_STATUSES)) {
+            bookings.put(appointment.getId(),
+                    new DaySchedule.BookedRange(appointment.getStartTime(), appointment.getEndTime()));
+        }
+        return DaySchedule.open(workingHours.getStartTime(), workingHours.getEndTime(), bookings);
+    }
+
+    private List<TimeSlot> generateSlots(
+            LocalTime openingTime,
+            LocalTime closingTime,
+            int slotDurationMinutes,
+            DayOccupancy occupancy
+    ) {
+        if (slotDurationMinutes < 1) {
+            throw new IllegalArgumentException("Slot duration must be positive");
+        }
+
+        List<TimeSlot> slots = new ArrayList<>();
+
+        // Generate slots from start to end of working hours, in minutes of the day so that
+        // a slot can never wrap past midnight
+        int currentSlot = DayOccupancy.toMinute(openingTime);
+        int endOfDay = DayOccupancy.toMinute(closingTime);
+
+        while (currentSlot + slotDurationMinutes <= endOfDay) {
+            LocalTime slotStart = LocalTime.of(currentSlot / 60, currentSlot % 60);
+            LocalTime slotEnd = slotStart.plusMinutes(slotDurationMinutes);
+            boolean available = occupancy.isFree(slotStart, slotEnd);
+
+            slots.add(new TimeSlot(slotStart, slotEnd, available));
+            currentSlot += slotDurationMinutes;
         }
 
         return slots;
     }
 
+    /**
+     * Find the earliest start time within a window at which the barber is free for the given duration.
+     * Pure in-memory evaluation: safe to run in parallel for many barbers.
+     *
+     * @param openingTime Opening time of the day
+     * @param closingTime Closing time of the day
+     * @param occupancy Occupancy bitmap of the day
+     * @param windowStart Earliest acceptable start time
+     * @param windowEnd Latest acceptable start time
+     * @param durationMinutes Required duration in minutes
+     * @param stepMinutes Slot grid step, aligned to opening time
+     * @return Earliest free start time, or empty if none fits
+     */
+    public Optional<LocalTime> findFirstAvailableStart(
+            LocalTime openingTime,
+            LocalTime closingTime,
+            DayOccupancy occupancy,
+            LocalTime windowStart,
+            LocalTime windowEnd,
+            int durationMinutes,
+            int stepMinutes
+    ) {
+        int opening = DayOccupancy.toMinute(openingTime);
+        int earliest = Math.max(opening, DayOccupancy.toMinute(windowStart));
+        int latest = Math.min(DayOccupancy.toMinute(windowEnd),
+                DayOccupancy.toMinute(closingTime) - durationMinutes);
+
+        int minute = occupancy.firstFreeMinute(earliest, latest, durationMinutes, opening, stepMinutes);
+        return minute < 0 ? Optional.empty() : Optional.of(LocalTime.of(minute / 60, minute % 60));
+    }
+
     /**
      * Value object representing a time slot with availability
      */
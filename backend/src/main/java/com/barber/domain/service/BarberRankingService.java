@@ -0,0 +1,84 @@
+package com.barber.domain.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * DOMAIN SERVICE: BarberRankingService
+ *
+ * Encapsulates the business rule for ordering barbers in listings.
+ *
+ * The ranking score is a Bayesian average of recency-weighted ratings:
+ * - Every barber starts from a prior (the platform-wide mean rating) worth a fixed
+ *   number of reviews, so a single 5-star review does not outrank hundreds of 4.8s
+ * - A review's weight halves every half-life, so recent reviews count more
+ *
+ * Weights use forward decay: instead of shrinking with age, a review's weight grows with
+ * the time it was written, measured from a fixed epoch. Weighted totals therefore never
+ * need rescaling and are maintained by simply adding or subtracting single reviews.
+ */
+@Service
+public class BarberRankingService {
+
+    public static final LocalDateTime DECAY_EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final double SECONDS_PER_DAY = 86_400.0;
+
+    private final double priorWeight;
+    private final double halfLifeDays;
+    private volatile double priorMean;
+
+    public BarberRankingService(@Value("${ranking.prior-weight:5}") double priorWeight,
+                                @Value("${ranking.half-life-days:180}") double halfLifeDays,
+                                @Value("${ranking.default-prior-mean:4.0}") double defaultPriorMean) {
+        this.priorWeight = priorWeight;
+        this.halfLifeDays = halfLifeDays;
+        this.priorMean = defaultPriorMean;
+    }
+
+    /**
+     * Forward-decayed weight of a review written at the given time
+     *
+     * @param reviewedAt When the review was written
+     * @return Weight relative to a review written at the decay epoch
+     */
+    public double weightOf(LocalDateTime reviewedAt) {
+        double days = Duration.between(DECAY_EPOCH, reviewedAt).toSeconds() / SECONDS_PER_DAY;
+        return Math.pow(2, days / halfLifeDays);
+    }
+
+    /**
+     * Calculate the ranking score from a barber's weighted rating totals
+     *
+     * @param decayedRatingSum Sum of weight * rating over visible reviews
+     * @param decayedReviewWeight Sum of weights over visible reviews
+     * @param now Time the score is calculated for
+     * @return Ranking score on the rating scale (1-5)
+     */
+    public double score(double decayedRatingSum, double decayedReviewWeight, LocalDateTime now) {
+        // The prior counts as priorWeight reviews written now
+        double prior = priorWeight * weightOf(now);
+        return (prior * priorMean + decayedRatingSum) / (prior + decayedReviewWeight);
+    }
+
+    /**
+     * Half-life of a review's weight in seconds, for weighting reviews in aggregate queries
+     */
+    public double getHalfLifeSeconds() {
+        return halfLifeDays * SECONDS_PER_DAY;
+    }
+
+    /**
+     * Replace the prior with the current platform-wide mean rating
+     *
+     * @param meanRating Mean of all visible ratings, ignored if there are none
+     */
+    public void updatePriorMean(Double meanRating) {
+        if (meanRating != null) {
+            this.priorMean = meanRating;
+        }
+    }
+}
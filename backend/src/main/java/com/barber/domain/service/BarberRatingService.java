@@ -5,11 +5,24 @@ import com.barber.entity.Review;
 import com.barber.exception.ResourceNotFoundException;
 import com.barber.repository.BarberProfileRepository;
 import com.barber.repository.ReviewRepository;
+import com.barber.repository.projection.DailyRatingBucket;
+import com.barber.repository.projection.DecayedRatingTotals;
+import com.barber.repository.projection.UncountedRating;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * DOMAIN SERVICE: BarberRatingService
@@ -28,29 +41,119 @@ public class BarberRatingService {
 
     private final ReviewRepository reviewRepository;
     private final BarberProfileRepository barberProfileRepository;
+    private final BarberRankingService rankingService;
 
     /**
-     * Recalculate and update the rating for a barber profile
-     * This should be called whenever:
-     * - A new review is submitted
-     * - A review visibility changes
-     * - A review is deleted
+     * Bring a barber's rating totals up to date with the visibility of its reviews
+     * Every review submitted, hidden or shown again since the last update is added to or
+     * removed from the totals, and its counted flag is set to match.
+     *
+     * The profile row is locked and the flags are written in the same transaction as the totals,
+     * so concurrent updates never overwrite each other, and applying the same reviews again
+     * finds them counted already and changes nothing.
+     * The ranking score is recalculated from the updated weighted totals.
      *
      * @param barberProfileId The barber profile to update
+     * @return The profile, carrying its change events if the totals changed
      */
     @Transactional
-    public void recalculateRating(Long barberProfileId) {
-        BarberProfile profile = barberProfileRepository.findById(barberProfileId)
+    public BarberProfile applyUncountedRatings(Long barberProfileId) {
+        BarberProfile profile = barberProfileRepository.findByIdForUpdate(barberProfileId)
+                .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
+
+        List<UncountedRating> uncounted = reviewRepository.findUncountedRatings(barberProfileId);
+        if (uncounted.isEmpty()) {
+            return profile;
+        }
+
+        long ratingSumDelta = 0;
+        int reviewCountDelta = 0;
+        double decayedRatingSumDelta = 0;
+        double decayedReviewWeightDelta = 0;
+        List<Long> added = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        for (UncountedRating review : uncounted) {
+            int sign = review.getVisible() ? 1 : -1;
+            double weight = rankingService.weightOf(review.getCreatedAt());
+            ratingSumDelta += (long) sign * review.getRating();
+            reviewCountDelta += sign;
+            decayedRatingSumDelta += sign * weight * review.getRating();
+            decayedReviewWeightDelta += sign * weight;
+            (review.getVisible() ? added : removed).add(review.getId());
+        }
+        if (!added.isEmpty()) {
+            reviewRepository.markRatingCounted(added, true);
+        }
+        if (!removed.isEmpty()) {
+            reviewRepository.markRatingCounted(removed, false);
+        }
+
+        profile.applyRatingDelta(ratingSumDelta, reviewCountDelta, decayedRatingSumDelta, decayedReviewWeightDelta);
+        profile.updateRankingScore(rankingService.score(
+                profile.getDecayedRatingSum(), profile.getDecayedReviewWeight(), LocalDateTime.now()));
+
+        return barberProfileRepository.save(profile);
+    }
+
+    /**
+     * Recompute a barber's rating totals from the reviews counted in them and fix them if they drifted
+     * The counted flags only change together with the totals, under the same row lock, so the
+     * comparison holds while review events are still being applied.
+     *
+     * @param barberProfileId The barber profile to check
+     * @return The corrected profile carrying its change events, or empty if the totals were in sync
+     */
+    @Transactional
+    public Optional<BarberProfile> reconcileRating(Long barberProfileId) {
+        BarberProfile profile = barberProfileRepository.findByIdForUpdate(barberProfileId)
                 .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
 
-        // Calculate new rating based on visible reviews
-        Double averageRating = reviewRepository.calculateAverageRating(barberProfileId);
-        Integer totalReviews = reviewRepository.countVisibleReviews(barberProfileId);
+        long ratingSum = reviewRepository.sumCountedRatings(barberProfileId);
+        int totalReviews = reviewRepository.countCountedReviews(barberProfileId);
+        if (profile.hasRatingTotals(ratingSum, totalReviews)) {
+            return Optional.empty();
+        }
 
-        // Use aggregate method to update rating
-        profile.updateRating(averageRating, totalReviews);
+        profile.resetRatingTotals(ratingSum, totalReviews);
+        return Optional.of(barberProfileRepository.save(profile));
+    }
 
-        barberProfileRepository.save(profile);
+    /**
+     * Set the ranking prior to the platform-wide mean rating, so all scores share the same prior
+     */
+    public void refreshRankingPrior() {
+        rankingService.updatePriorMean(reviewRepository.calculateOverallAverageRating());
+    }
+
+    /**
+     * Recompute the recency-weighted totals and ranking scores of a batch of barbers
+     * The profiles are locked before the reviews counted in their totals are aggregated,
+     * so no concurrent update is lost or counted twice.
+     * No change events are published; callers refresh listings as a whole.
+     *
+     * @param barberProfileIds The barber profiles to update
+     * @param now Time the scores are calculated for
+     * @return Number of barber profiles updated
+     */
+    @Transactional
+    public int recomputeRankings(List<Long> barberProfileIds, LocalDateTime now) {
+        List<BarberProfile> profiles = barberProfileRepository.findAllByIdInForUpdate(barberProfileIds);
+        Map<Long, DecayedRatingTotals> totals = reviewRepository
+                .sumDecayedRatingsByBarber(barberProfileIds, BarberRankingService.DECAY_EPOCH,
+                        rankingService.getHalfLifeSeconds())
+                .stream()
+                .collect(Collectors.toMap(DecayedRatingTotals::getBarberProfileId, Function.identity()));
+
+        for (BarberProfile profile : profiles) {
+            DecayedRatingTotals barberTotals = totals.get(profile.getId());
+            profile.resetDecayedTotals(
+                    barberTotals != null ? barberTotals.getDecayedRatingSum() : 0.0,
+                    barberTotals != null ? barberTotals.getDecayedReviewWeight() : 0.0);
+            profile.updateRankingScore(rankingService.score(
+                    profile.getDecayedRatingSum(), profile.getDecayedReviewWeight(), now));
+            profile.pullDomainEvents();
+        }
+        return profiles.size();
     }
 
     /**
@@ -66,19 +169,11 @@ public class BarberRatingService {
         }
 
         // Only consider visible reviews
-        List<Review> visibleReviews = reviews.stream()
+        return reviews.stream()
                 .filter(Review::getIsVisible)
-                .toList();
-
-        if (visibleReviews.isEmpty()) {
-            return 0.0;
-        }
-
-        double sum = visibleReviews.stream()
                 .mapToInt(Review::getRating)
-                .sum();
-
-        return sum / visibleReviews.size();
+                .average()
+                .orElse(0.0);
     }
 
     /**
@@ -207,18 +302,79 @@ public class BarberRatingService {
         BarberProfile profile = barberProfileRepository.findById(barberProfileId)
                 .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
 
-        List<Review> recentReviews = reviewRepository
-                .findByBarberProfileIdAndIsVisibleTrueOrderByCreatedAtDesc(barberProfileId,
-                        org.springframework.data.domain.PageRequest.of(0, recentReviewsCount))
-                .getContent();
+        // Only the rating column is selected; no review entities are loaded
+        List<Integer> recentRatings = reviewRepository.findRecentVisibleRatings(barberProfileId,
+                PageRequest.of(0, recentReviewsCount));
 
-        if (recentReviews.isEmpty()) {
+        if (recentRatings.isEmpty()) {
             return 0.0;
         }
 
-        Double recentAverage = calculateAverageRating(recentReviews);
-        Double overallAverage = profile.getAverageRating();
+        double recentAverage = recentRatings.stream()
+                .mapToInt(Integer::intValue)
+                .average()
+                .orElse(0.0);
 
-        return recentAverage - overallAverage;
+        return recentAverage - profile.getAverageRating();
     }
+
+    /**
+     * Calculate rolling rating windows ending today
+     * Each window is compared to the barber's overall average.
+     *
+     * Visible ratings are summed per day in the database, so at most one row per day of
+     * the longest window is read, regardless of how many reviews the barber has.
+     *
+     * @param barberProfileId The barber profile ID
+     * @param windowDays Window lengths in days, e.g. 7, 30 and 90
+     * @return One trend per window, in the given order
+     */
+    public List<RatingTrend> calculateRatingTrends(Long barberProfileId, int... windowDays) {
+        BarberProfile profile = barberProfileRepository.findById(barberProfileId)
+                .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
+
+        LocalDate today = LocalDate.now();
+        int longestWindow = Arrays.stream(windowDays).max().orElse(0);
+        List<DailyRatingBucket> buckets = reviewRepository.findDailyRatingBuckets(barberProfileId,
+                today.minusDays(longestWindow - 1L).atStartOfDay());
+
+        // Day offsets (0 = today) with their sums and counts, for primitive window scans
+        int size = buckets.size();
+        long[] ageInDays = new long[size];
+        long[] ratingSums = new long[size];
+        long[] reviewCounts = new long[size];
+        for (int i = 0; i < size; i++) {
+            DailyRatingBucket bucket = buckets.get(i);
+            ageInDays[i] = ChronoUnit.DAYS.between(bucket.getDay(), today);
+            ratingSums[i] = bucket.getRatingSum();
+            reviewCounts[i] = bucket.getReviewCount();
+        }
+
+        double overallAverage = profile.getAverageRating();
+        return Arrays.stream(windowDays)
+                .mapToObj(days -> {
+                    long ratingSum = 0;
+                    long reviewCount = 0;
+                    for (int i = 0; i < size; i++) {
+                        if (ageInDays[i] < days) {
+                            ratingSum += ratingSums[i];
+                            reviewCount += reviewCounts[i];
+                        }
+                    }
+                    Double average = reviewCount > 0 ? (double) ratingSum / reviewCount : null;
+                    Double change = average != null ? average - overallAverage : null;
+                    return new RatingTrend(days, average, reviewCount, change);
+                })
+                .toList();
+    }
+
+    /**
+     * Rating statistics of a rolling window
+     *
+     * @param days Window length in days, ending today
+     * @param averageRating Average visible rating in the window, null if there were no reviews
+     * @param reviewCount Number of visible reviews in the window
+     * @param changeFromOverall Window average minus overall average, null if there were no reviews
+     */
+    public record RatingTrend(int days, Double averageRating, long reviewCount, Double changeFromOverall) {}
 }
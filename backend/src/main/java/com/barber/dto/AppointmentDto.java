@@ -1,6 +1,7 @@
 package com.barber.dto;
 
 import com.barber.entity.AppointmentStatus;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import java.math.BigDecimal;
@@ -27,6 +28,46 @@ public class AppointmentDto {
         private String notes;
     }
     
+    /**
+     * One row of a bulk import (a CSV line or a JSON line), for the authenticated barber
+     */
+    @Data
+    public static class ImportRow {
+        @NotBlank(message = "Müşteri e-postası zorunludur")
+        private String customerEmail;
+        
+        @NotNull(message = "Hizmet seçimi zorunludur")
+        private Long serviceId;
+        
+        @NotNull(message = "Tarih seçimi zorunludur")
+        private LocalDate appointmentDate;
+        
+        @NotNull(message = "Saat seçimi zorunludur")
+        private LocalTime startTime;
+        
+        private String notes;
+    }
+    
+    @Data
+    public static class ImportError {
+        private Long line; // Dosyadaki satır numarası (başlık satırı dahil)
+        private String message;
+        
+        public ImportError(Long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+    }
+    
+    @Data
+    public static class ImportResponse {
+        private Long totalRows;
+        private Long importedCount;
+        private Long failedCount;
+        private java.util.List<ImportError> errors;
+        private Boolean errorsTruncated; // Hata listesi kısaltıldı mı?
+    }
+    
     @Data
     public static class UpdateStatusRequest {
         @NotNull(message = "Durum zorunludur")
@@ -70,4 +111,25 @@ public class AppointmentDto {
         private LocalDate date;
         private java.util.List<TimeSlot> slots;
     }
+    
+    @Data
+    public static class DayAvailability {
+        private LocalDate date;
+        private Boolean open;
+        private LocalTime openingTime;
+        private LocalTime closingTime;
+        private LocalTime firstAvailableSlot;
+        private Integer availableSlotCount;
+        private Integer totalSlotCount;
+        private String slotMask; // Açılıştan itibaren her slot için 1 = müsait, 0 = dolu
+    }
+    
+    @Data
+    public static class AvailabilityCalendarResponse {
+        private Long barberProfileId;
+        private LocalDate fromDate;
+        private LocalDate toDate;
+        private Integer slotDuration;
+        private java.util.List<DayAvailability> days;
+    }
 }
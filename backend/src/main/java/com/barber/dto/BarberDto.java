@@ -3,6 +3,8 @@ package com.barber.dto;
 import com.barber.entity.BarberStatus;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 public class BarberDto {
@@ -52,6 +54,35 @@ public class BarberDto {
         private String startingPrice;
     }
     
+    @Data
+    public static class NearbyBarberResponse {
+        private Long id;
+        private String shopName;
+        private String city;
+        private String district;
+        private String profileImage;
+        private Double averageRating;
+        private Integer totalReviews;
+        private String startingPrice;
+        private Double latitude;
+        private Double longitude;
+        private Double distanceKm;
+    }
+    
+    @Data
+    public static class AvailableBarberResponse {
+        private Long id;
+        private String shopName;
+        private String city;
+        private String district;
+        private String profileImage;
+        private Double averageRating;
+        private Integer totalReviews;
+        private Double distanceKm;
+        private LocalDate date;
+        private LocalTime firstAvailableTime;
+    }
+    
     @Data
     public static class BarberDetailResponse {
         private Long id;
@@ -71,4 +102,18 @@ public class BarberDto {
         private List<ServiceDto.ServiceResponse> services;
         private List<WorkingHoursDto.WorkingHoursResponse> workingHours;
     }
+    
+    @Data
+    public static class RatingTrendResponse {
+        private Long barberProfileId;
+        private List<RatingWindowResponse> windows;
+    }
+    
+    @Data
+    public static class RatingWindowResponse {
+        private Integer days;
+        private Double averageRating;
+        private Long reviewCount;
+        private Double changeFromOverall;
+    }
 }
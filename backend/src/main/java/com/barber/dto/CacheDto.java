@@ -0,0 +1,17 @@
+package com.barber.dto;
+
+import lombok.Data;
+
+public class CacheDto {
+    
+    @Data
+    public static class CacheStatsResponse {
+        private String name;
+        private Integer size;
+        private Integer maxEntries;
+        private Long hits;
+        private Long misses;
+        private Long evictions;
+        private Double hitRatio;
+    }
+}
@@ -0,0 +1,19 @@
+package com.barber.dto;
+
+import lombok.Data;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list. There is no total count; the client keeps
+ * requesting with nextCursor until it is null.
+ */
+@Data
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor; // Son sayfada null
+    
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -28,7 +28,11 @@ import java.util.List;
  * Note: Still using JPA annotations (will be separated in Phase 2)
  */
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments", indexes = {
+    // Day lookups use the (barber, date) prefix; history pages seek on the full key
+    @Index(name = "idx_appointments_barber_date_time", columnList = "barber_profile_id, appointment_date, start_time, id"),
+    @Index(name = "idx_appointments_customer_date_time", columnList = "customer_id, appointment_date, start_time, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // For JPA only
 @AllArgsConstructor(access = AccessLevel.PRIVATE) // For Builder only
@@ -36,7 +40,8 @@ import java.util.List;
 public class Appointment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointments_seq")
+    @SequenceGenerator(name = "appointments_seq", sequenceName = "appointments_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -228,6 +233,8 @@ public class Appointment {
         registerEvent(AppointmentCancelled.now(
             this.id,
             userId,
+            this.barberProfile.getId(),
+            getTimeSlot(),
             reason
         ));
     }
@@ -250,7 +257,8 @@ public class Appointment {
         registerEvent(AppointmentCompleted.now(
             this.id,
             this.customer.getId(),
-            this.barberProfile.getId()
+            this.barberProfile.getId(),
+            getTimeSlot()
         ));
     }
 
@@ -302,6 +310,19 @@ public class Appointment {
 
     // ==================== DOMAIN EVENTS ====================
 
+    /**
+     * Mark appointment as booked and register domain event
+     * Must be called after the appointment is persisted (needs the ID)
+     */
+    public void markAsBooked() {
+        registerEvent(AppointmentBooked.now(
+            this.id,
+            this.customer.getId(),
+            this.barberProfile.getId(),
+            getTimeSlot()
+        ));
+    }
+
     /**
      * Register a domain event to be published
      *
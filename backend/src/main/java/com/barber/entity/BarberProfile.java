@@ -1,7 +1,13 @@
 package com.barber.entity;
 
+import com.barber.common.domain.event.BarberProfileChanged;
+import com.barber.common.domain.event.DomainEvent;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,7 +31,12 @@ import java.util.List;
  * Note: Still using JPA annotations (will be separated in Phase 3)
  */
 @Entity
-@Table(name = "barber_profiles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "barber-profile")
+@Table(name = "barber_profiles", indexes = {
+    // Listings ordered by ranking are an index range scan per status
+    @Index(name = "idx_barber_profiles_status_ranking", columnList = "status, ranking_score")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // For JPA only
 @AllArgsConstructor(access = AccessLevel.PRIVATE) // For Builder only
@@ -33,7 +44,8 @@ import java.util.List;
 public class BarberProfile {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "barber_profiles_seq")
+    @SequenceGenerator(name = "barber_profiles_seq", sequenceName = "barber_profiles_seq", allocationSize = 50)
     private Long id;
     
     @OneToOne(fetch = FetchType.LAZY)
@@ -68,6 +80,28 @@ public class BarberProfile {
     @Column(nullable = false)
     @Builder.Default
     private Integer totalReviews = 0;
+
+    // Sum of all visible ratings, kept alongside totalReviews so the average is updated incrementally
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long ratingSum = 0L;
+
+    // Recency-weighted rating totals (see BarberRankingService) and the score derived from them
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Double decayedRatingSum = 0.0;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Double decayedReviewWeight = 0.0;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Double rankingScore = 0.0;
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -76,12 +110,23 @@ public class BarberProfile {
     
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    // Last change to data shown on the public profile, services or working hours
+    private LocalDateTime updatedAt;
+
+    // Incremented on every update of the row; identifies a version of the public resources (ETag)
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long revision;
     
     @OneToMany(mappedBy = "barberProfile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "barber-profile-services")
     @Builder.Default
     private List<Service> services = new ArrayList<>();
     
     @OneToMany(mappedBy = "barberProfile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "barber-profile-working-hours")
     @Builder.Default
     private List<WorkingHours> workingHours = new ArrayList<>();
     
@@ -93,9 +138,16 @@ public class BarberProfile {
     @Builder.Default
     private List<Review> reviews = new ArrayList<>();
     
+    // Domain events (not persisted)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Builder.Default
+    private final List<DomainEvent> domainEvents = new ArrayList<>();
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
     }
 
     // ==================== BUSINESS METHODS ====================
@@ -132,6 +184,7 @@ public class BarberProfile {
      */
     public void approve() {
         this.status = BarberStatus.APPROVED;
+        registerChange();
     }
 
     /**
@@ -139,18 +192,82 @@ public class BarberProfile {
      */
     public void reject() {
         this.status = BarberStatus.REJECTED;
+        registerChange();
+    }
+
+    /**
+     * Apply a change in visible reviews to the rating totals
+     * Called with the accumulated deltas of submitted, hidden and re-shown reviews
+     *
+     * @param ratingSumDelta Change of the sum of visible ratings
+     * @param reviewCountDelta Change of the number of visible reviews
+     * @param decayedRatingSumDelta Change of the recency-weighted rating sum
+     * @param decayedReviewWeightDelta Change of the recency-weighted review count
+     */
+    public void applyRatingDelta(long ratingSumDelta, int reviewCountDelta,
+                                 double decayedRatingSumDelta, double decayedReviewWeightDelta) {
+        if (ratingSumDelta == 0 && reviewCountDelta == 0) {
+            return;
+        }
+        setRatingTotals(this.ratingSum + ratingSumDelta, this.totalReviews + reviewCountDelta);
+        setDecayedTotals(this.decayedRatingSum + decayedRatingSumDelta, this.decayedReviewWeight + decayedReviewWeightDelta);
+    }
+
+    /**
+     * Replace the rating totals with values recomputed from the reviews
+     *
+     * @param newRatingSum Sum of visible ratings
+     * @param newTotalReviews Number of visible reviews
+     */
+    public void resetRatingTotals(long newRatingSum, int newTotalReviews) {
+        setRatingTotals(newRatingSum, newTotalReviews);
     }
 
     /**
-     * Update the average rating and total reviews
-     * This method should be called when a new review is submitted
+     * Check whether the rating totals match values recomputed from the reviews
      *
-     * @param newAverageRating The new average rating
-     * @param newTotalReviews The new total number of reviews
+     * @param expectedRatingSum Sum of visible ratings
+     * @param expectedTotalReviews Number of visible reviews
+     * @return true if the stored totals are in sync
      */
-    public void updateRating(Double newAverageRating, Integer newTotalReviews) {
-        this.averageRating = newAverageRating != null ? newAverageRating : 0.0;
-        this.totalReviews = newTotalReviews != null ? newTotalReviews : 0;
+    public boolean hasRatingTotals(long expectedRatingSum, int expectedTotalReviews) {
+        return ratingSum == expectedRatingSum && totalReviews == expectedTotalReviews;
+    }
+
+    /**
+     * Replace the recency-weighted totals with values recomputed from the reviews
+     *
+     * @param newDecayedRatingSum Recency-weighted rating sum
+     * @param newDecayedReviewWeight Recency-weighted review count
+     */
+    public void resetDecayedTotals(double newDecayedRatingSum, double newDecayedReviewWeight) {
+        setDecayedTotals(newDecayedRatingSum, newDecayedReviewWeight);
+    }
+
+    /**
+     * Update the score used to order barbers in listings
+     *
+     * @param newRankingScore Score calculated by the ranking policy
+     */
+    public void updateRankingScore(double newRankingScore) {
+        if (this.rankingScore != newRankingScore) {
+            this.rankingScore = newRankingScore;
+            registerListingChange();
+        }
+    }
+
+    private void setDecayedTotals(double newDecayedRatingSum, double newDecayedReviewWeight) {
+        // Floating point leftovers of removed reviews must not leave a phantom weight behind
+        boolean empty = this.totalReviews == 0 || newDecayedReviewWeight <= 0;
+        this.decayedRatingSum = empty ? 0.0 : newDecayedRatingSum;
+        this.decayedReviewWeight = empty ? 0.0 : newDecayedReviewWeight;
+    }
+
+    private void setRatingTotals(long newRatingSum, int newTotalReviews) {
+        this.ratingSum = Math.max(newRatingSum, 0);
+        this.totalReviews = Math.max(newTotalReviews, 0);
+        this.averageRating = this.totalReviews > 0 ? (double) this.ratingSum / this.totalReviews : 0.0;
+        registerChange();
     }
 
     /**
@@ -202,6 +319,7 @@ public class BarberProfile {
         if (latitude != null) this.latitude = latitude;
         if (longitude != null) this.longitude = longitude;
         if (profileImage != null) this.profileImage = profileImage;
+        registerChange();
     }
 
     // ==================== AGGREGATE MANAGEMENT - SERVICES ====================
@@ -231,6 +349,7 @@ public class BarberProfile {
         service.validateInvariants();
 
         this.services.add(service);
+        registerChange();
         return service;
     }
 
@@ -263,6 +382,7 @@ public class BarberProfile {
         // Validate after update
         service.validateInvariants();
 
+        registerChange();
         return service;
     }
 
@@ -276,6 +396,7 @@ public class BarberProfile {
         Service service = findServiceById(serviceId)
             .orElseThrow(() -> new com.barber.exception.ResourceNotFoundException("Hizmet bulunamadı"));
         service.deactivate();
+        registerChange();
     }
 
     /**
@@ -288,6 +409,7 @@ public class BarberProfile {
         Service service = findServiceById(serviceId)
             .orElseThrow(() -> new com.barber.exception.ResourceNotFoundException("Hizmet bulunamadı"));
         service.activate();
+        registerChange();
     }
 
     /**
@@ -300,6 +422,7 @@ public class BarberProfile {
         Service service = findServiceById(serviceId)
             .orElseThrow(() -> new com.barber.exception.ResourceNotFoundException("Hizmet bulunamadı"));
         this.services.remove(service);
+        registerChange();
     }
 
     /**
@@ -354,6 +477,8 @@ public class BarberProfile {
         if (uniqueDays != this.workingHours.size()) {
             throw new com.barber.exception.BadRequestException("Aynı gün için birden fazla çalışma saati tanımlanamaz");
         }
+
+        markModified();
     }
 
     /**
@@ -391,6 +516,7 @@ public class BarberProfile {
         // Validate
         wh.validateInvariants();
 
+        markModified();
         return wh;
     }
 
@@ -431,6 +557,51 @@ public class BarberProfile {
             .orElse(false);
     }
 
+    // ==================== DOMAIN EVENTS ====================
+
+    /**
+     * Register that data shown on the public profile changed
+     */
+    private void registerChange() {
+        markModified();
+        registerListingChange();
+    }
+
+    /**
+     * Mark the public profile, services or working hours as changed.
+     * Touching a column makes the row dirty, so the revision is incremented on flush
+     * even when only child entities changed.
+     */
+    private void markModified() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Register that listing-relevant data changed.
+     * At most one change event is kept per unit of work; profiles that are
+     * not yet persisted have nothing to refresh.
+     */
+    private void registerListingChange() {
+        if (this.id == null) {
+            return;
+        }
+        boolean pending = domainEvents.stream().anyMatch(BarberProfileChanged.class::isInstance);
+        if (!pending) {
+            this.domainEvents.add(BarberProfileChanged.now(this.id));
+        }
+    }
+
+    /**
+     * Get and clear all domain events (for publishing)
+     *
+     * @return List of domain events
+     */
+    public List<DomainEvent> pullDomainEvents() {
+        List<DomainEvent> events = new ArrayList<>(this.domainEvents);
+        this.domainEvents.clear();
+        return events;
+    }
+
     // ==================== AGGREGATE INVARIANTS ====================
 
     /**
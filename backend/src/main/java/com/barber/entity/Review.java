@@ -2,6 +2,7 @@ package com.barber.entity;
 
 import com.barber.common.domain.event.DomainEvent;
 import com.barber.common.domain.event.ReviewSubmitted;
+import com.barber.common.domain.event.ReviewVisibilityChanged;
 import com.barber.common.domain.valueobject.Rating;
 import jakarta.persistence.*;
 import lombok.*;
@@ -25,7 +26,9 @@ import java.util.List;
  * Note: Still using JPA annotations (will be separated in Phase 2)
  */
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+    @Index(name = "idx_reviews_barber_visible_created", columnList = "barber_profile_id, is_visible, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // For JPA only
 @AllArgsConstructor(access = AccessLevel.PRIVATE) // For Builder only
@@ -33,7 +36,8 @@ import java.util.List;
 public class Review {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_seq")
+    @SequenceGenerator(name = "reviews_seq", sequenceName = "reviews_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -57,6 +61,11 @@ public class Review {
     @Column(nullable = false)
     @Builder.Default
     private Boolean isVisible = true;
+
+    // Whether the rating is included in the barber's totals; differs from isVisible until the delta is applied
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean ratingCounted = false;
     
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -123,14 +132,25 @@ public class Review {
      * Hide the review from public view
      */
     public void hide() {
-        this.isVisible = false;
+        changeVisibility(false);
     }
 
     /**
      * Show the review in public view
      */
     public void show() {
-        this.isVisible = true;
+        changeVisibility(true);
+    }
+
+    private void changeVisibility(boolean visible) {
+        if (this.isVisible == visible) {
+            return;
+        }
+        this.isVisible = visible;
+        if (this.id != null) {
+            registerEvent(ReviewVisibilityChanged.now(
+                this.id, this.barberProfile.getId(), this.rating, this.createdAt, visible));
+        }
     }
 
     /**
@@ -4,6 +4,8 @@ import com.barber.common.domain.valueobject.Money;
 import com.barber.exception.BadRequestException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.util.Currency;
 
@@ -22,6 +24,8 @@ import java.util.Currency;
  * Note: This is NOT an aggregate root - it can only be modified through BarberProfile
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "service")
 @Table(name = "services")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // For JPA only
@@ -30,7 +34,8 @@ import java.util.Currency;
 public class Service {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "services_seq")
+    @SequenceGenerator(name = "services_seq", sequenceName = "services_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
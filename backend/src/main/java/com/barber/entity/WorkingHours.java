@@ -3,6 +3,8 @@ package com.barber.entity;
 import com.barber.exception.BadRequestException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 
@@ -21,6 +23,8 @@ import java.time.LocalTime;
  * Note: This is NOT an aggregate root - it can only be modified through BarberProfile
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "working-hours")
 @Table(name = "working_hours")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // For JPA only
@@ -29,7 +33,8 @@ import java.time.LocalTime;
 public class WorkingHours {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "working_hours_seq")
+    @SequenceGenerator(name = "working_hours_seq", sequenceName = "working_hours_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
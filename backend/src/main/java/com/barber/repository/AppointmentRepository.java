@@ -2,6 +2,9 @@ package com.barber.repository;
 
 import com.barber.entity.Appointment;
 import com.barber.entity.AppointmentStatus;
+import com.barber.repository.projection.AppointmentHistoryRow;
+import com.barber.repository.projection.BarberBookedInterval;
+import com.barber.repository.projection.BookedInterval;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,14 +13,79 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
     
-    Page<Appointment> findByCustomerIdOrderByAppointmentDateDescStartTimeDesc(Long customerId, Pageable pageable);
+    /**
+     * A customer's appointment history, newest first, one query per page
+     */
+    @Query(value = "SELECT a.id AS id, c.id AS customerId, c.name AS customerName, " +
+           "b.id AS barberProfileId, b.shopName AS barberShopName, s.id AS serviceId, s.name AS serviceName, " +
+           "a.appointmentDate AS appointmentDate, a.startTime AS startTime, a.endTime AS endTime, " +
+           "a.status AS status, a.totalPrice AS totalPrice, a.notes AS notes, a.createdAt AS createdAt, " +
+           "CASE WHEN r.id IS NOT NULL THEN true ELSE false END AS hasReview " +
+           "FROM Appointment a JOIN a.customer c JOIN a.barberProfile b JOIN a.service s LEFT JOIN a.review r " +
+           "WHERE c.id = :customerId ORDER BY a.appointmentDate DESC, a.startTime DESC, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM Appointment a WHERE a.customer.id = :customerId")
+    Page<AppointmentHistoryRow> findCustomerHistory(@Param("customerId") Long customerId, Pageable pageable);
     
-    Page<Appointment> findByBarberProfileIdOrderByAppointmentDateDescStartTimeDesc(Long barberProfileId, Pageable pageable);
+    /**
+     * A barber's appointment history, newest first, one query per page
+     */
+    @Query(value = "SELECT a.id AS id, c.id AS customerId, c.name AS customerName, " +
+           "b.id AS barberProfileId, b.shopName AS barberShopName, s.id AS serviceId, s.name AS serviceName, " +
+           "a.appointmentDate AS appointmentDate, a.startTime AS startTime, a.endTime AS endTime, " +
+           "a.status AS status, a.totalPrice AS totalPrice, a.notes AS notes, a.createdAt AS createdAt, " +
+           "CASE WHEN r.id IS NOT NULL THEN true ELSE false END AS hasReview " +
+           "FROM Appointment a JOIN a.customer c JOIN a.barberProfile b JOIN a.service s LEFT JOIN a.review r " +
+           "WHERE b.id = :barberProfileId ORDER BY a.appointmentDate DESC, a.startTime DESC, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM Appointment a WHERE a.barberProfile.id = :barberProfileId")
+    Page<AppointmentHistoryRow> findBarberHistory(@Param("barberProfileId") Long barberProfileId, Pageable pageable);
+    
+    /**
+     * The customer's appointments that sort after the given key (newest first), for keyset pagination
+     */
+    @Query("SELECT a.id AS id, c.id AS customerId, c.name AS customerName, " +
+           "b.id AS barberProfileId, b.shopName AS barberShopName, s.id AS serviceId, s.name AS serviceName, " +
+           "a.appointmentDate AS appointmentDate, a.startTime AS startTime, a.endTime AS endTime, " +
+           "a.status AS status, a.totalPrice AS totalPrice, a.notes AS notes, a.createdAt AS createdAt, " +
+           "CASE WHEN r.id IS NOT NULL THEN true ELSE false END AS hasReview " +
+           "FROM Appointment a JOIN a.customer c JOIN a.barberProfile b JOIN a.service s LEFT JOIN a.review r " +
+           "WHERE c.id = :customerId " +
+           "AND (a.appointmentDate < :date OR (a.appointmentDate = :date " +
+           "AND (a.startTime < :startTime OR (a.startTime = :startTime AND a.id < :id)))) " +
+           "ORDER BY a.appointmentDate DESC, a.startTime DESC, a.id DESC")
+    List<AppointmentHistoryRow> findCustomerHistoryAfter(
+        @Param("customerId") Long customerId,
+        @Param("date") LocalDate date,
+        @Param("startTime") LocalTime startTime,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
+    /**
+     * The barber's appointments that sort after the given key (newest first), for keyset pagination
+     */
+    @Query("SELECT a.id AS id, c.id AS customerId, c.name AS customerName, " +
+           "b.id AS barberProfileId, b.shopName AS barberShopName, s.id AS serviceId, s.name AS serviceName, " +
+           "a.appointmentDate AS appointmentDate, a.startTime AS startTime, a.endTime AS endTime, " +
+           "a.status AS status, a.totalPrice AS totalPrice, a.notes AS notes, a.createdAt AS createdAt, " +
+           "CASE WHEN r.id IS NOT NULL THEN true ELSE false END AS hasReview " +
+           "FROM Appointment a JOIN a.customer c JOIN a.barberProfile b JOIN a.service s LEFT JOIN a.review r " +
+           "WHERE b.id = :barberProfileId " +
+           "AND (a.appointmentDate < :date OR (a.appointmentDate = :date " +
+           "AND (a.startTime < :startTime OR (a.startTime = :startTime AND a.id < :id)))) " +
+           "ORDER BY a.appointmentDate DESC, a.startTime DESC, a.id DESC")
+    List<AppointmentHistoryRow> findBarberHistoryAfter(
+        @Param("barberProfileId") Long barberProfileId,
+        @Param("date") LocalDate date,
+        @Param("startTime") LocalTime startTime,
+        @Param("id") Long id,
+        Pageable pageable
+    );
     
     List<Appointment> findByBarberProfileIdAndAppointmentDateAndStatusIn(
         Long barberProfileId, 
@@ -25,18 +93,67 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
         List<AppointmentStatus> statuses
     );
     
-    @Query("SELECT a FROM Appointment a WHERE a.barberProfile.id = :barberProfileId " +
+    List<Appointment> findByBarberProfileIdAndAppointmentDateBetweenAndStatusIn(
+        Long barberProfileId,
+        LocalDate fromDate,
+        LocalDate toDate,
+        List<AppointmentStatus> statuses
+    );
+    
+    List<Appointment> findByBarberProfileIdAndAppointmentDateInAndStatusIn(
+        Long barberProfileId,
+        Collection<LocalDate> dates,
+        List<AppointmentStatus> statuses
+    );
+    
+    /**
+     * Time ranges of the appointments of several barbers on a date, without loading the entities
+     */
+    @Query("SELECT a.barberProfile.id AS barberProfileId, a.startTime AS startTime, a.endTime AS endTime " +
+           "FROM Appointment a " +
+           "WHERE a.barberProfile.id IN :barberProfileIds " +
+           "AND a.appointmentDate = :date " +
+           "AND a.status IN :statuses")
+    List<BarberBookedInterval> findBookedIntervals(
+        @Param("barberProfileIds") Collection<Long> barberProfileIds,
+        @Param("date") LocalDate date,
+        @Param("statuses") List<AppointmentStatus> statuses
+    );
+    
+    /**
+     * Whether an active appointment overlaps the half-open range [startTime, endTime).
+     * Touching ranges (one ends when the other starts) do not overlap.
+     */
+    @Query("SELECT CASE WHEN EXISTS (" +
+           "SELECT a.id FROM Appointment a WHERE a.barberProfile.id = :barberProfileId " +
            "AND a.appointmentDate = :date " +
            "AND a.status IN ('PENDING', 'CONFIRMED') " +
-           "AND ((a.startTime <= :startTime AND a.endTime > :startTime) " +
-           "OR (a.startTime < :endTime AND a.endTime >= :endTime) " +
-           "OR (a.startTime >= :startTime AND a.endTime <= :endTime))")
-    List<Appointment> findConflictingAppointments(
+           "AND a.startTime < :endTime AND a.endTime > :startTime" +
+           ") THEN true ELSE false END")
+    boolean existsOverlappingAppointment(
         @Param("barberProfileId") Long barberProfileId,
         @Param("date") LocalDate date,
         @Param("startTime") LocalTime startTime,
         @Param("endTime") LocalTime endTime
     );
+
+    /**
+     * Time ranges of the active appointments on the given dates overlapping the half-open range
+     * [startTime, endTime), for checking many candidate ranges against the result of one query
+     */
+    @Query("SELECT a.appointmentDate AS appointmentDate, a.startTime AS startTime, a.endTime AS endTime " +
+           "FROM Appointment a " +
+           "WHERE a.barberProfile.id = :barberProfileId " +
+           "AND a.appointmentDate IN :dates " +
+           "AND a.status IN ('PENDING', 'CONFIRMED') " +
+           "AND a.startTime < :endTime AND a.endTime > :startTime " +
+           "ORDER BY a.appointmentDate, a.startTime")
+    List<BookedInterval> findOverlappingIntervals(
+        @Param("barberProfileId") Long barberProfileId,
+        @Param("dates") Collection<LocalDate> dates,
+        @Param("startTime") LocalTime startTime,
+        @Param("endTime") LocalTime endTime
+    );
     
     List<Appointment> findByCustomerIdAndStatus(Long customerId, AppointmentStatus status);
     
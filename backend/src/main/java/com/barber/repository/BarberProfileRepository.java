@@ -2,12 +2,17 @@ package com.barber.repository;
 
 import com.barber.entity.BarberProfile;
 import com.barber.entity.BarberStatus;
+import com.barber.repository.projection.BarberListView;
+import com.barber.repository.projection.RatingTotals;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,21 +21,58 @@ public interface BarberProfileRepository extends JpaRepository<BarberProfile, Lo
     
     Optional<BarberProfile> findByUserId(Long userId);
     
+    @Query("SELECT b.id FROM BarberProfile b WHERE b.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BarberProfile b WHERE b.id = :id")
+    Optional<BarberProfile> findByIdForUpdate(@Param("id") Long id);
+    
+    @Query("SELECT b.revision FROM BarberProfile b WHERE b.id = :id")
+    Optional<Long> findRevisionById(@Param("id") Long id);
+    
     Page<BarberProfile> findByStatus(BarberStatus status, Pageable pageable);
     
-    @Query(value = "SELECT b FROM BarberProfile b WHERE b.status = com.barber.entity.BarberStatus.APPROVED " +
+    @Query("SELECT b.id AS id, b.shopName AS shopName, b.city AS city, b.district AS district, " +
+           "b.profileImage AS profileImage, b.averageRating AS averageRating, b.totalReviews AS totalReviews, " +
+           "(SELECT MIN(s.price) FROM Service s WHERE s.barberProfile = b AND s.isActive = true) AS minPrice " +
+           "FROM BarberProfile b WHERE b.status = :status ORDER BY b.createdAt DESC")
+    List<BarberListView> findBarberListingsByStatus(@Param("status") BarberStatus status);
+    
+    @Query("SELECT DISTINCT b FROM BarberProfile b LEFT JOIN FETCH b.workingHours " +
+           "WHERE b.status = com.barber.entity.BarberStatus.APPROVED " +
+           "AND (:city IS NULL OR b.city = :city) " +
+           "AND (:district IS NULL OR b.district = :district)")
+    List<BarberProfile> findApprovedBarbersWithWorkingHours(
+        @Param("city") String city,
+        @Param("district") String district
+    );
+
+    @Query("SELECT DISTINCT b FROM BarberProfile b LEFT JOIN FETCH b.workingHours " +
+           "WHERE b.id IN :ids " +
+           "AND b.status = com.barber.entity.BarberStatus.APPROVED " +
            "AND (:city IS NULL OR b.city = :city) " +
            "AND (:district IS NULL OR b.district = :district)")
-    Page<BarberProfile> findApprovedBarbers(
+    List<BarberProfile> findApprovedBarbersWithWorkingHoursByIdIn(
+        @Param("ids") Collection<Long> ids,
         @Param("city") String city,
-        @Param("district") String district,
-        Pageable pageable
+        @Param("district") String district
     );
     
-    @Query("SELECT b FROM BarberProfile b WHERE b.status = com.barber.entity.BarberStatus.APPROVED " +
-           "AND b.averageRating >= :minRating " +
-           "ORDER BY b.averageRating DESC")
-    List<BarberProfile> findTopRatedBarbers(@Param("minRating") Double minRating);
+    @Query("SELECT DISTINCT b FROM BarberProfile b LEFT JOIN FETCH b.services " +
+           "WHERE b.status = com.barber.entity.BarberStatus.APPROVED")
+    List<BarberProfile> findApprovedBarbersWithServices();
+    
+    @Query("SELECT b FROM BarberProfile b LEFT JOIN FETCH b.services WHERE b.id = :id")
+    Optional<BarberProfile> findByIdWithServices(@Param("id") Long id);
+    
+    @Query("SELECT b.id FROM BarberProfile b ORDER BY b.id")
+    List<Long> findAllIds();
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BarberProfile b WHERE b.id IN :ids ORDER BY b.id")
+    List<BarberProfile> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
     
-    List<BarberProfile> findByStatusOrderByCreatedAtDesc(BarberStatus status);
+    @Query("SELECT b.id AS barberProfileId, b.ratingSum AS ratingSum, b.totalReviews AS reviewCount FROM BarberProfile b")
+    List<RatingTotals> findAllRatingTotals();
 }
@@ -1,12 +1,20 @@
 package com.barber.repository;
 
 import com.barber.entity.Review;
+import com.barber.repository.projection.DailyRatingBucket;
+import com.barber.repository.projection.DecayedRatingTotals;
+import com.barber.repository.projection.RatingTotals;
+import com.barber.repository.projection.UncountedRating;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,6 +24,20 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     
     Page<Review> findByBarberProfileIdOrderByCreatedAtDesc(Long barberProfileId, Pageable pageable);
     
+    /**
+     * The barber's visible reviews that sort after the given key (newest first), for keyset pagination
+     */
+    @Query("SELECT r FROM Review r JOIN FETCH r.customer " +
+           "WHERE r.barberProfile.id = :barberProfileId AND r.isVisible = true " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Review> findVisibleReviewsAfter(
+        @Param("barberProfileId") Long barberProfileId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+    
     Optional<Review> findByAppointmentId(Long appointmentId);
     
     boolean existsByAppointmentId(Long appointmentId);
@@ -25,4 +47,55 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     
     @Query("SELECT COUNT(r) FROM Review r WHERE r.barberProfile.id = :barberProfileId AND r.isVisible = true")
     Integer countVisibleReviews(@Param("barberProfileId") Long barberProfileId);
+    
+    @Query("SELECT r.barberProfile.id AS barberProfileId, SUM(r.rating) AS ratingSum, COUNT(r) AS reviewCount " +
+           "FROM Review r WHERE r.ratingCounted = true GROUP BY r.barberProfile.id")
+    List<RatingTotals> sumCountedRatingsByBarber();
+    
+    @Query("SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.barberProfile.id = :barberProfileId AND r.ratingCounted = true")
+    Long sumCountedRatings(@Param("barberProfileId") Long barberProfileId);
+    
+    @Query("SELECT COUNT(r) FROM Review r WHERE r.barberProfile.id = :barberProfileId AND r.ratingCounted = true")
+    Integer countCountedReviews(@Param("barberProfileId") Long barberProfileId);
+    
+    /**
+     * The barber's reviews whose visibility is not reflected in the rating totals yet
+     */
+    @Query("SELECT r.id AS id, r.rating AS rating, r.createdAt AS createdAt, r.isVisible AS visible " +
+           "FROM Review r WHERE r.barberProfile.id = :barberProfileId AND r.ratingCounted <> r.isVisible")
+    List<UncountedRating> findUncountedRatings(@Param("barberProfileId") Long barberProfileId);
+    
+    @Query("SELECT DISTINCT r.barberProfile.id FROM Review r WHERE r.ratingCounted <> r.isVisible")
+    List<Long> findBarberProfileIdsWithUncountedRatings();
+    
+    @Modifying
+    @Query("UPDATE Review r SET r.ratingCounted = :counted WHERE r.id IN :ids")
+    int markRatingCounted(@Param("ids") Collection<Long> ids, @Param("counted") boolean counted);
+    
+    @Query("SELECT r.rating FROM Review r WHERE r.barberProfile.id = :barberProfileId AND r.isVisible = true " +
+           "ORDER BY r.createdAt DESC")
+    List<Integer> findRecentVisibleRatings(@Param("barberProfileId") Long barberProfileId, Pageable pageable);
+    
+    @Query("SELECT cast(r.createdAt as LocalDate) AS day, SUM(r.rating) AS ratingSum, COUNT(r) AS reviewCount " +
+           "FROM Review r WHERE r.barberProfile.id = :barberProfileId AND r.isVisible = true AND r.createdAt >= :since " +
+           "GROUP BY cast(r.createdAt as LocalDate) ORDER BY cast(r.createdAt as LocalDate)")
+    List<DailyRatingBucket> findDailyRatingBuckets(
+        @Param("barberProfileId") Long barberProfileId,
+        @Param("since") LocalDateTime since
+    );
+    
+    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.isVisible = true")
+    Double calculateOverallAverageRating();
+    
+    // Weight of a review: 2 ^ (seconds between the decay epoch and the review / half-life in seconds)
+    @Query("SELECT r.barberProfile.id AS barberProfileId, " +
+           "SUM(r.rating * power(2.0, cast((r.createdAt - :epoch) by second as Double) / :halfLifeSeconds)) AS decayedRatingSum, " +
+           "SUM(power(2.0, cast((r.createdAt - :epoch) by second as Double) / :halfLifeSeconds)) AS decayedReviewWeight " +
+           "FROM Review r WHERE r.ratingCounted = true AND r.barberProfile.id IN :barberProfileIds " +
+           "GROUP BY r.barberProfile.id")
+    List<DecayedRatingTotals> sumDecayedRatingsByBarber(
+        @Param("barberProfileIds") Collection<Long> barberProfileIds,
+        @Param("epoch") LocalDateTime epoch,
+        @Param("halfLifeSeconds") Double halfLifeSeconds
+    );
 }
@@ -1,12 +1,25 @@
 package com.barber.repository;
 
 import com.barber.entity.Service;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface ServiceRepository extends JpaRepository<Service, Long> {
+    // Cached until a row of the table changes (or the region entry expires)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "barber-catalog-queries")
+    })
     List<Service> findByBarberProfileIdAndIsActiveTrue(Long barberProfileId);
     List<Service> findByBarberProfileId(Long barberProfileId);
+
+    @Query("SELECT e.id FROM Service e WHERE e.barberProfile.id = :barberProfileId")
+    List<Long> findIdsByBarberProfileId(@Param("barberProfileId") Long barberProfileId);
 }
@@ -1,7 +1,12 @@
 package com.barber.repository;
 
 import com.barber.entity.WorkingHours;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.DayOfWeek;
 import java.util.List;
@@ -9,7 +14,15 @@ import java.util.Optional;
 
 @Repository
 public interface WorkingHoursRepository extends JpaRepository<WorkingHours, Long> {
+    // Cached until a row of the table changes (or the region entry expires)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "barber-catalog-queries")
+    })
     List<WorkingHours> findByBarberProfileIdOrderByDayOfWeek(Long barberProfileId);
     Optional<WorkingHours> findByBarberProfileIdAndDayOfWeek(Long barberProfileId, DayOfWeek dayOfWeek);
     void deleteByBarberProfileId(Long barberProfileId);
+
+    @Query("SELECT e.id FROM WorkingHours e WHERE e.barberProfile.id = :barberProfileId")
+    List<Long> findIdsByBarberProfileId(@Param("barberProfileId") Long barberProfileId);
 }
@@ -0,0 +1,47 @@
+package com.barber.repository.projection;
+
+import com.barber.entity.AppointmentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Read-only projection of an appointment for the appointment history screens.
+ *
+ * Carries the customer, shop and service names and whether the appointment has a review,
+ * so a whole page is read with one query instead of loading each association lazily.
+ */
+public interface AppointmentHistoryRow {
+
+    Long getId();
+
+    Long getCustomerId();
+
+    String getCustomerName();
+
+    Long getBarberProfileId();
+
+    String getBarberShopName();
+
+    Long getServiceId();
+
+    String getServiceName();
+
+    LocalDate getAppointmentDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+
+    AppointmentStatus getStatus();
+
+    BigDecimal getTotalPrice();
+
+    String getNotes();
+
+    LocalDateTime getCreatedAt();
+
+    Boolean getHasReview();
+}
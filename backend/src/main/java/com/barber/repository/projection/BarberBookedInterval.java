@@ -0,0 +1,16 @@
+package com.barber.repository.projection;
+
+import java.time.LocalTime;
+
+/**
+ * Read-only projection of the time range an active appointment occupies, tagged with its barber,
+ * for building the occupancy of many barbers on one day from a single query.
+ */
+public interface BarberBookedInterval {
+
+    Long getBarberProfileId();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
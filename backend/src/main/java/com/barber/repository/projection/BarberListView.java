@@ -0,0 +1,31 @@
+package com.barber.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only projection of a barber listing row.
+ *
+ * Selected in one query together with the minimum active service price,
+ * so listings never load services per barber.
+ */
+public interface BarberListView {
+
+    Long getId();
+
+    String getShopName();
+
+    String getCity();
+
+    String getDistrict();
+
+    String getProfileImage();
+
+    Double getAverageRating();
+
+    Integer getTotalReviews();
+
+    /**
+     * Minimum price of the barber's active services, null if none are active
+     */
+    BigDecimal getMinPrice();
+}
@@ -0,0 +1,16 @@
+package com.barber.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Read-only projection of the time range an active appointment occupies on its day.
+ */
+public interface BookedInterval {
+
+    LocalDate getAppointmentDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
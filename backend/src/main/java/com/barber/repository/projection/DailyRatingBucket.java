@@ -0,0 +1,17 @@
+package com.barber.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of one day of a barber's visible ratings: their sum and count.
+ *
+ * Rating trends are computed from at most one row per day instead of from review entities.
+ */
+public interface DailyRatingBucket {
+
+    LocalDate getDay();
+
+    Long getRatingSum();
+
+    Long getReviewCount();
+}
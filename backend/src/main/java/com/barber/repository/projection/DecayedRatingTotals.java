@@ -0,0 +1,16 @@
+package com.barber.repository.projection;
+
+/**
+ * Read-only projection of a barber's recency-weighted rating totals over the reviews
+ * included in its totals.
+ *
+ * Aggregated in the database per batch of barbers when rankings are recomputed.
+ */
+public interface DecayedRatingTotals {
+
+    Long getBarberProfileId();
+
+    Double getDecayedRatingSum();
+
+    Double getDecayedReviewWeight();
+}
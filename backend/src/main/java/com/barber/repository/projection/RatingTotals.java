@@ -0,0 +1,17 @@
+package com.barber.repository.projection;
+
+/**
+ * Read-only projection of a barber's rating totals: the sum and count of the ratings
+ * included in its totals.
+ *
+ * Used to compare the totals stored on barber profiles with totals recomputed
+ * from reviews, for all barbers in one query each.
+ */
+public interface RatingTotals {
+
+    Long getBarberProfileId();
+
+    Long getRatingSum();
+
+    Long getReviewCount();
+}
@@ -0,0 +1,18 @@
+package com.barber.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a review whose visibility is not reflected in its barber's
+ * rating totals yet: a new or re-shown review to add, or a hidden one to remove.
+ */
+public interface UncountedRating {
+
+    Long getId();
+
+    Integer getRating();
+
+    LocalDateTime getCreatedAt();
+
+    Boolean getVisible();
+}
@@ -3,16 +3,16 @@ package com.barber.security;
 import com.barber.entity.User;
 import com.barber.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import java.util.Collections;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
     private final UserRepository userRepository;
     
@@ -21,11 +21,23 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + email));
         
-        return new org.springframework.security.core.userdetails.User(
-            user.getEmail(),
-            user.getPasswordHash(),
-            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
-        );
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.getName(), user.getPasswordHash());
+    }
+    
+    /**
+     * Store a re-encoded hash after a successful login with an outdated one
+     * (called by the authentication provider)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPasswordHash) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+            .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + userDetails.getUsername()));
+        
+        user.updatePassword(newPasswordHash);
+        userRepository.save(user);
+        
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.getName(), newPasswordHash);
     }
     
     public User getUserByEmail(String email) {
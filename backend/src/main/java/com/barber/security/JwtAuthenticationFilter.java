@@ -1,5 +1,6 @@
 package com.barber.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -20,6 +22,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -28,9 +31,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            Optional<Claims> claims = StringUtils.hasText(jwt) ? jwtTokenProvider.parseClaims(jwt) : Optional.empty();
+            
+            if (claims.isPresent()) {
+                // Tokens carry ID and role; older tokens without them fall back to a user lookup
+                UserDetails userDetails = jwtTokenProvider.toPrincipal(claims.get())
+                    .<UserDetails>map(principal -> principal)
+                    .orElseGet(() -> userDetailsService.loadUserByUsername(claims.get().getSubject()));
+                
+                if (userDetails instanceof AuthenticatedUser principal && !userStatusCache.isCurrent(principal)) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
                 
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(
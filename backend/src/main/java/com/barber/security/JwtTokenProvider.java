@@ -1,73 +1,144 @@
 package com.barber.security;
 
+import com.barber.entity.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
-    
+
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
-    
+
     @Value("${jwt.expiration}")
     private long jwtExpiration;
-    
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+
+    @Value("${jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    // Built once: the HMAC key and the (immutable, thread-safe) parser
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Recently verified tokens -> claims, LRU bounded; entries are dropped once the token expires
+    private Map<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedTokens = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > claimsCacheSize;
+            }
+        };
     }
-    
+
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpiration);
-        
-        return Jwts.builder()
-                .subject(userDetails.getUsername())
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        return generateToken(principal.getId(), principal.getEmail(), principal.getRole());
     }
-    
-    public String generateToken(String email) {
+
+    /**
+     * Issue a token carrying the user's ID and role, so requests can be authenticated
+     * without loading the user
+     */
+    public String generateToken(Long userId, String email, Role role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
-        
+
         return Jwts.builder()
                 .subject(email)
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLE_CLAIM, role.name())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
-    
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.getSubject();
-    }
-    
-    public boolean validateToken(String token) {
+
+    /**
+     * Verify a token and return its claims in a single pass.
+     * Tokens verified before are answered from the cache until they expire.
+     *
+     * @param token Compact JWT
+     * @return Claims, or empty if the token is invalid or expired
+     */
+    public Optional<Claims> parseClaims(String token) {
+        Claims cached;
+        synchronized (verifiedTokens) {
+            cached = verifiedTokens.get(token);
+        }
+        if (cached != null) {
+            if (isExpired(cached)) {
+                synchronized (verifiedTokens) {
+                    verifiedTokens.remove(token);
+                }
+                return Optional.empty();
+            }
+            return Optional.of(cached);
+        }
+
+        Claims claims;
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            claims = parser.parseSignedClaims(token).getPayload();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(token, claims);
         }
+        return Optional.of(claims);
+    }
+
+    /**
+     * Build the principal from token claims
+     *
+     * @param claims Verified claims
+     * @return Principal, or empty for tokens issued without ID/role claims
+     */
+    public Optional<AuthenticatedUser> toPrincipal(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new AuthenticatedUser(userId.longValue(), claims.getSubject(), Role.valueOf(role)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String getEmailFromToken(String token) {
+        return parseClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
+    }
+
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && !expiration.after(new Date());
     }
 }
@@ -0,0 +1,95 @@
+package com.barber.security;
+
+import com.barber.exception.TooManyRequestsException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing and verification on a dedicated, bounded executor.
+ *
+ * bcrypt is deliberately slow; running it on request threads lets a login burst
+ * starve every other endpoint. Work queued beyond the configured capacity is
+ * rejected immediately with a 429 instead of piling up.
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${security.password.hashing-threads:0}") int threads,
+                                  @Value("${security.password.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Math.max(Runtime.getRuntime().availableProcessors(), 1);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Log the cost of one hash with the configured encoder, to help tune the bcrypt strength
+     */
+    @PostConstruct
+    void logHashingCost() {
+        long start = System.nanoTime();
+        passwordEncoder.encode("calibration-password");
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Password hashing takes ~{} ms per hash on {} hashing threads", elapsedMs, executor.getCorePoolSize());
+    }
+
+    /**
+     * Hash a raw password off the request thread
+     *
+     * @param rawPassword Raw password
+     * @return Future of the encoded hash
+     * @throws TooManyRequestsException if the hashing queue is full
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Run password work (e.g. a whole authentication) on the hashing executor
+     *
+     * @param task Task performing hashing or verification
+     * @return Future of the task result
+     * @throws TooManyRequestsException if the hashing queue is full
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException ex) {
+            throw new TooManyRequestsException("Çok fazla istek var, lütfen biraz sonra tekrar deneyin");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
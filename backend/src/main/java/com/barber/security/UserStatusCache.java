@@ -0,0 +1,81 @@
+package com.barber.security;
+
+import com.barber.entity.Role;
+import com.barber.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Short-lived, size-bounded cache of each user's current role.
+ *
+ * Token claims are trusted for identity, but a deleted user or a changed role must not
+ * keep working for the token's whole lifetime. Each user is checked against the database
+ * at most once per TTL instead of on every request.
+ */
+@Component
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<Long, Entry> entries;
+
+    public UserStatusCache(UserRepository userRepository,
+                           @Value("${security.user-cache.enabled:true}") boolean enabled,
+                           @Value("${security.user-cache.ttl-seconds:60}") long ttlSeconds,
+                           @Value("${security.user-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > UserStatusCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Check that the user still exists with the role carried by the token
+     *
+     * @param principal Principal built from token claims
+     * @return true if the principal is still valid
+     */
+    public boolean isCurrent(AuthenticatedUser principal) {
+        if (!enabled) {
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(principal.getId());
+        }
+        if (entry == null || entry.expiresAt() < now) {
+            entry = new Entry(userRepository.findRoleById(principal.getId()), now + ttlMillis);
+            synchronized (entries) {
+                entries.put(principal.getId(), entry);
+            }
+        }
+        return entry.role().map(role -> role == principal.getRole()).orElse(false);
+    }
+
+    /**
+     * Forget a user, e.g. after the role changed
+     *
+     * @param userId The user ID
+     */
+    public void evict(Long userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    private record Entry(Optional<Role> role, long expiresAt) {}
+}
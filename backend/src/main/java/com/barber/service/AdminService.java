@@ -1,17 +1,25 @@
 package com.barber.service;
 
+import com.barber.common.infrastructure.cache.BarberScheduleCache;
+import com.barber.common.infrastructure.event.DomainEventPublisher;
 import com.barber.dto.BarberDto;
+import com.barber.dto.CacheDto;
 import com.barber.dto.ReviewDto;
 import com.barber.entity.BarberProfile;
 import com.barber.entity.BarberStatus;
 import com.barber.exception.ResourceNotFoundException;
 import com.barber.repository.BarberProfileRepository;
 import com.barber.repository.ReviewRepository;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,11 +30,14 @@ public class AdminService {
     private final BarberProfileRepository barberProfileRepository;
     private final ReviewRepository reviewRepository;
     private final ReviewService reviewService;
+    private final BarberScheduleCache scheduleCache;
+    private final DomainEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
     
     public List<BarberDto.BarberListResponse> getPendingBarbers() {
-        return barberProfileRepository.findByStatusOrderByCreatedAtDesc(BarberStatus.PENDING)
+        return barberProfileRepository.findBarberListingsByStatus(BarberStatus.PENDING)
             .stream()
-            .map(this::mapToListResponse)
+            .map(BarberService::mapListViewToResponse)
             .collect(Collectors.toList());
     }
     
@@ -37,6 +48,7 @@ public class AdminService {
 
         profile.approve();
         profile = barberProfileRepository.save(profile);
+        eventPublisher.publishAll(profile.pullDomainEvents());
 
         return mapToListResponse(profile);
     }
@@ -48,6 +60,7 @@ public class AdminService {
 
         profile.reject();
         profile = barberProfileRepository.save(profile);
+        eventPublisher.publishAll(profile.pullDomainEvents());
 
         return mapToListResponse(profile);
     }
@@ -73,6 +86,45 @@ public class AdminService {
         return reviewService.updateVisibility(reviewId, request);
     }
     
+    public CacheDto.CacheStatsResponse getScheduleCacheStats() {
+        BarberScheduleCache.Stats stats = scheduleCache.getStats();
+        
+        CacheDto.CacheStatsResponse response = new CacheDto.CacheStatsResponse();
+        response.setName("barber-schedule");
+        response.setSize(stats.size());
+        response.setMaxEntries(stats.maxEntries());
+        response.setHits(stats.hits());
+        response.setMisses(stats.misses());
+        response.setEvictions(stats.evictions());
+        response.setHitRatio(stats.hitRatio());
+        return response;
+    }
+    
+    public List<CacheDto.CacheStatsResponse> getSecondLevelCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .sorted()
+            .map(regionName -> {
+                CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+                CacheDto.CacheStatsResponse response = new CacheDto.CacheStatsResponse();
+                response.setName(regionName);
+                if (region == null) {
+                    return response;
+                }
+                long hits = region.getHitCount();
+                long misses = region.getMissCount();
+                long size = region.getElementCountInMemory();
+                // The JCache provider does not report region sizes
+                response.setSize(size >= 0 ? (int) size : null);
+                response.setHits(hits);
+                response.setMisses(misses);
+                response.setHitRatio(hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+                return response;
+            })
+            .collect(Collectors.toList());
+    }
+    
     private BarberDto.BarberListResponse mapToListResponse(BarberProfile profile) {
         BarberDto.BarberListResponse response = new BarberDto.BarberListResponse();
         response.setId(profile.getId());
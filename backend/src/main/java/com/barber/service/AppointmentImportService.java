@@ -0,0 +1,328 @@
+package com.barber.service;
+
+import com.barber.common.domain.event.BarberScheduleChanged;
+import com.barber.common.domain.valueobject.ScheduledTimeSlot;
+import com.barber.common.infrastructure.cache.BarberEntityCache;
+import com.barber.common.infrastructure.event.DomainEventPublisher;
+import com.barber.common.infrastructure.importing.AppointmentImportReader;
+import com.barber.domain.model.DayOccupancy;
+import com.barber.domain.service.AppointmentAvailabilityService;
+import com.barber.dto.AppointmentDto;
+import com.barber.entity.*;
+import com.barber.exception.BadRequestException;
+import com.barber.exception.ResourceNotFoundException;
+import com.barber.repository.AppointmentRepository;
+import com.barber.repository.BarberProfileRepository;
+import com.barber.repository.ServiceRepository;
+import com.barber.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of existing future appointments for shops moving to the platform.
+ *
+ * The upload is streamed and processed in chunks, so memory use does not grow with the file:
+ * - Each chunk runs in its own transaction holding the barber row lock, like a single booking
+ * - Customers and existing appointments are loaded with one query per chunk
+ * - Rows are checked against existing appointments with one batch overlap query per chunk, and
+ *   against each other per day with a sorted interval sweep over the rows accepted before them
+ * - Accepted rows are written with batched inserts; the persistence context is cleared per chunk
+ *
+ * Rows that fail are reported with their line number; the rest of the file is still imported.
+ * Imported appointments are CONFIRMED, since they were already agreed in the previous system.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentImportService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final BarberProfileRepository barberProfileRepository;
+    private final ServiceRepository serviceRepository;
+    private final UserRepository userRepository;
+    private final AppointmentAvailabilityService availabilityService;
+    private final DomainEventPublisher eventPublisher;
+    private final BarberEntityCache barberEntityCache;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${appointment-import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${appointment-import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    /**
+     * Import appointments into the authenticated barber's calendar
+     *
+     * @param userId The barber's user ID
+     * @param body The uploaded file
+     * @param contentType text/csv or application/x-ndjson
+     * @return Counts and per-row errors
+     */
+    public AppointmentDto.ImportResponse importAppointments(Long userId, InputStream body, MediaType contentType) {
+        AppointmentImportReader.Format format = AppointmentImportReader.formatOf(contentType);
+
+        BarberProfile profile = barberProfileRepository.findByUserId(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Kuaför profili bulunamadı"));
+        if (profile.getStatus() != BarberStatus.APPROVED) {
+            throw new BadRequestException("Randevu aktarımı için profilinizin onaylanmış olması gerekir");
+        }
+
+        ImportReport report = new ImportReport(maxReportedErrors);
+        long start = System.nanoTime();
+
+        try (AppointmentImportReader reader = new AppointmentImportReader(body, format, objectMapper)) {
+            List<Candidate> chunk = new ArrayList<>(chunkSize);
+            AppointmentImportReader.ImportRecord record;
+            while ((record = reader.next()) != null) {
+                report.totalRows++;
+                String error = record.error() != null ? record.error() : validate(record.row());
+                if (error != null) {
+                    report.reject(record.line(), error);
+                    continue;
+                }
+                chunk.add(new Candidate(record.line(), record.row()));
+                if (chunk.size() >= chunkSize) {
+                    importChunk(profile.getId(), userId, chunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(profile.getId(), userId, chunk, report);
+            }
+        } catch (IOException ex) {
+            throw new BadRequestException("Dosya okunamadı: " + ex.getMessage());
+        }
+
+        log.info("Imported {} of {} appointments for barber {} in {} ms",
+            report.importedCount, report.totalRows, profile.getId(), (System.nanoTime() - start) / 1_000_000);
+        return report.toResponse();
+    }
+
+    private String validate(AppointmentDto.ImportRow row) {
+        Set<ConstraintViolation<AppointmentDto.ImportRow>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Import one chunk in its own transaction. If the transaction fails, every row of the chunk is reported.
+     */
+    private void importChunk(Long barberProfileId, Long barberUserId, List<Candidate> chunk, ImportReport report) {
+        List<AppointmentDto.ImportError> rejected = new ArrayList<>();
+        try {
+            int imported = transactionTemplate.execute(status -> persistChunk(barberProfileId, barberUserId, chunk, rejected));
+            report.importedCount += imported;
+            rejected.forEach(error -> report.reject(error.getLine(), error.getMessage()));
+        } catch (RuntimeException ex) {
+            log.warn("Importing a chunk of {} appointments for barber {} failed: {}",
+                chunk.size(), barberProfileId, ex.getMessage());
+            chunk.forEach(candidate -> report.reject(candidate.line, "Kayıt sırasında hata oluştu, satır aktarılamadı"));
+        }
+    }
+
+    private int persistChunk(Long barberProfileId, Long barberUserId, List<Candidate> chunk,
+                             List<AppointmentDto.ImportError> rejected) {
+        // Start from an empty persistence context: the barber is read fresh under its lock,
+        // and the appointments of earlier chunks are released
+        entityManager.clear();
+        barberEntityCache.bypassForCurrentTransaction();
+
+        // Row lock on the barber serialises the chunk with concurrent bookings
+        BarberProfile profile = barberProfileRepository.findByIdForUpdate(barberProfileId)
+            .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
+
+        Map<Long, com.barber.entity.Service> services = serviceRepository.findByBarberProfileIdAndIsActiveTrue(barberProfileId)
+            .stream()
+            .collect(Collectors.toMap(com.barber.entity.Service::getId, Function.identity()));
+        Map<String, User> customers = userRepository.findByEmailIn(
+                chunk.stream().map(candidate -> candidate.row.getCustomerEmail().trim()).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(User::getEmail, Function.identity()));
+
+        // Resolve references row by row, then group the remaining rows by day
+        LocalDateTime now = LocalDateTime.now();
+        Map<LocalDate, List<Candidate>> days = new TreeMap<>();
+        for (Candidate candidate : chunk) {
+            String error = resolve(candidate, services, customers, barberUserId, now);
+            if (error != null) {
+                rejected.add(new AppointmentDto.ImportError(candidate.line, error));
+            } else {
+                days.computeIfAbsent(candidate.row.getAppointmentDate(), date -> new ArrayList<>()).add(candidate);
+            }
+        }
+        if (days.isEmpty()) {
+            return 0;
+        }
+
+        // One batch overlap query for all rows of the chunk against the existing appointments
+        List<Candidate> resolved = days.values().stream().flatMap(List::stream).toList();
+        List<Boolean> conflicts = availabilityService.hasConflictingAppointments(barberProfileId, resolved.stream()
+            .map(candidate -> new ScheduledTimeSlot(
+                candidate.row.getAppointmentDate(), candidate.row.getStartTime(), candidate.endTime))
+            .toList());
+        for (int i = 0; i < resolved.size(); i++) {
+            resolved.get(i).conflictsWithExisting = conflicts.get(i);
+        }
+
+        List<Appointment> accepted = new ArrayList<>();
+        days.forEach((date, candidates) -> {
+            WorkingHours workingHours = profile.getWorkingHoursForDay(date.getDayOfWeek()).orElse(null);
+
+            // Sweep the day's rows in start order; the earliest row wins an overlap
+            candidates.sort(Comparator.comparing((Candidate candidate) -> candidate.row.getStartTime())
+                .thenComparingLong(candidate -> candidate.line));
+            int acceptedUntil = -1;
+            long acceptedUntilLine = 0;
+            for (Candidate candidate : candidates) {
+                LocalTime startTime = candidate.row.getStartTime();
+                LocalTime endTime = candidate.endTime;
+                if (workingHours == null || !workingHours.isTimeRangeWithinWorkingHours(startTime, endTime)) {
+                    rejected.add(new AppointmentDto.ImportError(candidate.line, "Çalışma saatleri dışında"));
+                } else if (candidate.conflictsWithExisting) {
+                    rejected.add(new AppointmentDto.ImportError(candidate.line, "Mevcut bir randevu ile çakışıyor"));
+                } else if (DayOccupancy.toMinute(startTime) < acceptedUntil) {
+                    rejected.add(new AppointmentDto.ImportError(candidate.line,
+                        "Dosyadaki " + acceptedUntilLine + ". satırdaki randevu ile çakışıyor"));
+                } else {
+                    acceptedUntil = DayOccupancy.toMinute(endTime);
+                    acceptedUntilLine = candidate.line;
+                    accepted.add(toAppointment(profile, date, candidate));
+                }
+            }
+        });
+
+        if (!accepted.isEmpty()) {
+            appointmentRepository.saveAll(accepted);
+            // Cached schedules of this barber are now stale
+            eventPublisher.publish(BarberScheduleChanged.now(barberProfileId));
+        }
+        return accepted.size();
+    }
+
+    /**
+     * Check a row's references and times. On success the candidate's service, customer and end time are set.
+     *
+     * @return Error message, or null if the row can be scheduled
+     */
+    private String resolve(Candidate candidate, Map<Long, com.barber.entity.Service> services,
+                           Map<String, User> customers, Long barberUserId, LocalDateTime now) {
+        AppointmentDto.ImportRow row = candidate.row;
+        if (row.getAppointmentDate().isBefore(now.toLocalDate())) {
+            return "Geçmiş bir tarihe randevu aktarılamaz";
+        }
+        if (!LocalDateTime.of(row.getAppointmentDate(), row.getStartTime()).isAfter(now)) {
+            return "Geçmiş bir saate randevu aktarılamaz";
+        }
+        candidate.service = services.get(row.getServiceId());
+        if (candidate.service == null) {
+            return "Hizmet bulunamadı veya bu kuaföre ait değil";
+        }
+        candidate.customer = customers.get(row.getCustomerEmail().trim());
+        if (candidate.customer == null) {
+            return "Müşteri bulunamadı: " + row.getCustomerEmail().trim();
+        }
+        if (candidate.customer.getId().equals(barberUserId)) {
+            return "Kendi dükkanınıza randevu oluşturamazsınız";
+        }
+        candidate.endTime = row.getStartTime().plusMinutes(candidate.service.getDurationMinutes());
+        if (!candidate.endTime.isAfter(row.getStartTime())) {
+            return "Randevu aynı gün içinde bitmelidir";
+        }
+        return null;
+    }
+
+    private Appointment toAppointment(BarberProfile profile, LocalDate date, Candidate candidate) {
+        return Appointment.builder()
+            .customer(candidate.customer)
+            .barberProfile(profile)
+            .service(candidate.service)
+            .appointmentDate(date)
+            .startTime(candidate.row.getStartTime())
+            .endTime(candidate.endTime)
+            .status(AppointmentStatus.CONFIRMED)
+            .totalPrice(candidate.service.getPrice())
+            .notes(candidate.row.getNotes())
+            .build();
+    }
+
+    /**
+     * A validated row waiting for its chunk
+     */
+    private static class Candidate {
+        private final long line;
+        private final AppointmentDto.ImportRow row;
+        private com.barber.entity.Service service;
+        private User customer;
+        private LocalTime endTime;
+        private boolean conflictsWithExisting;
+
+        private Candidate(long line, AppointmentDto.ImportRow row) {
+            this.line = line;
+            this.row = row;
+        }
+    }
+
+    /**
+     * Running totals of an import. Only the first errors are kept, so the report stays small for large files.
+     */
+    private static class ImportReport {
+        private final int maxErrors;
+        private final List<AppointmentDto.ImportError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedCount;
+        private long failedCount;
+
+        private ImportReport(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(long line, String message) {
+            failedCount++;
+            if (errors.size() < maxErrors) {
+                errors.add(new AppointmentDto.ImportError(line, message));
+            }
+        }
+
+        private AppointmentDto.ImportResponse toResponse() {
+            errors.sort(Comparator.comparing(AppointmentDto.ImportError::getLine));
+            AppointmentDto.ImportResponse response = new AppointmentDto.ImportResponse();
+            response.setTotalRows(totalRows);
+            response.setImportedCount(importedCount);
+            response.setFailedCount(failedCount);
+            response.setErrors(errors);
+            response.setErrorsTruncated(failedCount > errors.size());
+            return response;
+        }
+    }
+}
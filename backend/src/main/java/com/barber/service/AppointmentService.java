@@ -1,26 +1,46 @@
 package com.barber.service;
 
+import com.barber.domain.model.DayOccupancy;
+import com.barber.domain.model.DaySchedule;
+import com.barber.common.infrastructure.pagination.ContinuationToken;
 import com.barber.dto.AppointmentDto;
+import com.barber.dto.CursorPage;
 import com.barber.entity.*;
 import com.barber.exception.BadRequestException;
 import com.barber.exception.ResourceNotFoundException;
+import com.barber.exception.TooManyRequestsException;
 import com.barber.repository.*;
+import com.barber.repository.projection.AppointmentHistoryRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AppointmentService {
-
+    
+    private static final int DEFAULT_SLOT_DURATION = 30;
+    private static final int MAX_CALENDAR_DAYS = 31;
+    private static final int MAX_BOOKING_ATTEMPTS = 3;
+    private static final long BOOKING_RETRY_BACKOFF_MS = 50;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final String HISTORY_CURSOR = "appointment-history";
+    
     private final AppointmentRepository appointmentRepository;
     private final BarberProfileRepository barberProfileRepository;
     private final ServiceRepository serviceRepository;
@@ -29,13 +49,48 @@ public class AppointmentService {
     private final ReviewRepository reviewRepository;
     private final com.barber.domain.service.AppointmentAvailabilityService availabilityService;
     private final com.barber.common.infrastructure.event.DomainEventPublisher eventPublisher;
+    private final com.barber.common.infrastructure.cache.BarberScheduleCache scheduleCache;
+    private final com.barber.common.infrastructure.cache.BarberEntityCache barberEntityCache;
+    private final com.barber.common.infrastructure.lock.BookingLocks bookingLocks;
+    private final TransactionTemplate transactionTemplate;
     
-    @Transactional
+    /**
+     * Book an appointment without double-booking under concurrency.
+     *
+     * The conflict check and insert run in one transaction that holds the barber row lock,
+     * so concurrent bookings for the same barber are serialised across instances.
+     * Inside this JVM, a striped lock per barber/day keeps them from queuing on the
+     * database lock, and lock failures are retried with a short backoff.
+     * The transaction is opened inside the in-process lock so it commits before the lock is released.
+     */
     public AppointmentDto.AppointmentResponse createAppointment(Long customerId, AppointmentDto.CreateAppointmentRequest request) {
+        return bookingLocks.withLock(request.getBarberProfileId(), request.getAppointmentDate(), () -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(status -> bookAppointment(customerId, request));
+                } catch (PessimisticLockingFailureException ex) {
+                    if (attempt >= MAX_BOOKING_ATTEMPTS) {
+                        // Contention, not a bad request: answered with 429 and Retry-After
+                        throw new TooManyRequestsException("Randevu sistemi şu anda yoğun, lütfen tekrar deneyin");
+                    }
+                    backoff(attempt);
+                } catch (DataIntegrityViolationException ex) {
+                    // Database-level overlap guard rejected the insert
+                    throw new BadRequestException("Seçilen saat dolu veya çalışma saatleri dışında");
+                }
+            }
+        });
+    }
+    
+    private AppointmentDto.AppointmentResponse bookAppointment(Long customerId, AppointmentDto.CreateAppointmentRequest request) {
+        // Price, duration and working hours as committed, not another instance's cached copy
+        barberEntityCache.bypassForCurrentTransaction();
+
         User customer = userRepository.findById(customerId)
             .orElseThrow(() -> new ResourceNotFoundException("Kullanıcı bulunamadı"));
         
-        BarberProfile barberProfile = barberProfileRepository.findById(request.getBarberProfileId())
+        // Row lock on the barber serialises concurrent bookings for this barber
+        BarberProfile barberProfile = barberProfileRepository.findByIdForUpdate(request.getBarberProfileId())
             .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
         
         // Prevent barber from booking appointment at their own shop
@@ -57,10 +112,13 @@ public class AppointmentService {
         // Calculate end time
         LocalTime endTime = request.getStartTime().plusMinutes(service.getDurationMinutes());
 
-        // Check if date is valid (not in past)
+        // Check the appointment does not start in the past
         if (request.getAppointmentDate().isBefore(LocalDate.now())) {
             throw new BadRequestException("Geçmiş bir tarihe randevu oluşturulamaz");
         }
+        if (!LocalDateTime.of(request.getAppointmentDate(), request.getStartTime()).isAfter(LocalDateTime.now())) {
+            throw new BadRequestException("Geçmiş bir saate randevu oluşturulamaz");
+        }
 
         // Use domain service to validate availability
         availabilityService.validateAppointmentSlot(
@@ -82,6 +140,7 @@ public class AppointmentService {
             .build();
         
         appointment = appointmentRepository.save(appointment);
+        appointment.markAsBooked();
 
         // Publish domain events
         eventPublisher.publishAll(appointment.pullDomainEvents());
@@ -89,19 +148,102 @@ public class AppointmentService {
         return mapToResponse(appointment);
     }
     
+    private void backoff(int attempt) {
+        try {
+            Thread.sleep(BOOKING_RETRY_BACKOFF_MS * attempt);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("Randevu işlemi yarıda kesildi");
+        }
+    }
+    
     public Page<AppointmentDto.AppointmentResponse> getCustomerAppointments(Long customerId, Pageable pageable) {
-        return appointmentRepository.findByCustomerIdOrderByAppointmentDateDescStartTimeDesc(customerId, pageable)
+        return appointmentRepository.findCustomerHistory(customerId, pageable)
             .map(this::mapToResponse);
     }
     
     public Page<AppointmentDto.AppointmentResponse> getBarberAppointments(Long userId, Pageable pageable) {
-        BarberProfile profile = barberProfileRepository.findByUserId(userId)
+        Long barberProfileId = barberProfileRepository.findIdByUserId(userId)
             .orElseThrow(() -> new ResourceNotFoundException("Kuaför profili bulunamadı"));
         
-        return appointmentRepository.findByBarberProfileIdOrderByAppointmentDateDescStartTimeDesc(profile.getId(), pageable)
+        return appointmentRepository.findBarberHistory(barberProfileId, pageable)
             .map(this::mapToResponse);
     }
     
+    /**
+     * Keyset-paginated appointment history of a customer, newest first
+     *
+     * @param cursor Token from the previous page, null for the first page
+     * @param size Page size (at most 100)
+     */
+    public CursorPage<AppointmentDto.AppointmentResponse> getCustomerAppointmentHistory(Long customerId, String cursor, int size) {
+        HistoryKey after = HistoryKey.decode(cursor);
+        int limit = clampPageSize(size);
+        List<AppointmentHistoryRow> rows = appointmentRepository.findCustomerHistoryAfter(
+            customerId, after.date(), after.startTime(), after.id(), PageRequest.of(0, limit + 1));
+        return toCursorPage(rows, limit);
+    }
+    
+    /**
+     * Keyset-paginated appointment history of the barber's shop, newest first
+     *
+     * @param cursor Token from the previous page, null for the first page
+     * @param size Page size (at most 100)
+     */
+    public CursorPage<AppointmentDto.AppointmentResponse> getBarberAppointmentHistory(Long userId, String cursor, int size) {
+        Long barberProfileId = barberProfileRepository.findIdByUserId(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Kuaför profili bulunamadı"));
+        
+        HistoryKey after = HistoryKey.decode(cursor);
+        int limit = clampPageSize(size);
+        List<AppointmentHistoryRow> rows = appointmentRepository.findBarberHistoryAfter(
+            barberProfileId, after.date(), after.startTime(), after.id(), PageRequest.of(0, limit + 1));
+        return toCursorPage(rows, limit);
+    }
+    
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+    }
+    
+    /**
+     * The query fetched one row more than the page size; if it is there, another page follows
+     */
+    private CursorPage<AppointmentDto.AppointmentResponse> toCursorPage(List<AppointmentHistoryRow> rows, int limit) {
+        boolean hasMore = rows.size() > limit;
+        List<AppointmentHistoryRow> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            AppointmentHistoryRow last = page.get(page.size() - 1);
+            nextCursor = new HistoryKey(last.getAppointmentDate(), last.getStartTime(), last.getId()).encode();
+        }
+        return new CursorPage<>(page.stream().map(this::mapToResponse).collect(Collectors.toList()), nextCursor);
+    }
+    
+    /**
+     * Sort key of the appointment history: (appointmentDate, startTime, id), descending
+     */
+    private record HistoryKey(LocalDate date, LocalTime startTime, Long id) {
+        
+        // Sorts before every appointment, so the first page needs no separate query
+        private static final HistoryKey START = new HistoryKey(LocalDate.of(9999, 12, 31), LocalTime.MAX, Long.MAX_VALUE);
+        
+        static HistoryKey decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return START;
+            }
+            String[] keys = ContinuationToken.decode(cursor, HISTORY_CURSOR, 3);
+            try {
+                return new HistoryKey(LocalDate.parse(keys[0]), LocalTime.parse(keys[1]), Long.valueOf(keys[2]));
+            } catch (DateTimeParseException | NumberFormatException ex) {
+                throw ContinuationToken.invalid();
+            }
+        }
+        
+        String encode() {
+            return ContinuationToken.encode(HISTORY_CURSOR, date, startTime, id);
+        }
+    }
+    
     @Transactional
     public AppointmentDto.AppointmentResponse updateStatus(Long userId, Long appointmentId, AppointmentDto.UpdateStatusRequest request) {
         Appointment appointment = appointmentRepository.findById(appointmentId)
@@ -139,14 +281,23 @@ public class AppointmentService {
     }
     
     public AppointmentDto.AvailableSlotsResponse getAvailableSlots(Long barberProfileId, LocalDate date, Integer serviceDuration) {
-        BarberProfile profile = barberProfileRepository.findById(barberProfileId)
-            .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
+        int slotDuration = resolveSlotDuration(serviceDuration);
 
-        int slotDuration = serviceDuration != null ? serviceDuration : 30;
+        // Hot barbers are served from the schedule cache without touching the database.
+        // Misses load from the primary (no read-only transaction): a snapshot read from a lagging
+        // replica would stay cached, since the cache is only updated by later events
+        // The working hours are read past the second-level cache, which may still hold hours changed
+        // on another instance; the snapshot is kept until the next schedule change
+        DaySchedule schedule = scheduleCache.get(barberProfileId, date, () -> transactionTemplate.execute(status -> {
+            barberEntityCache.bypassForCurrentTransaction();
+            BarberProfile profile = barberProfileRepository.findById(barberProfileId)
+                .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
+            return availabilityService.loadDaySchedule(profile, date);
+        }));
 
         // Use domain service to generate available slots
         List<com.barber.domain.service.AppointmentAvailabilityService.TimeSlot> domainSlots =
-                availabilityService.generateAvailableSlots(profile, date, slotDuration);
+                availabilityService.generateAvailableSlots(schedule, slotDuration);
 
         // Convert domain time slots to DTOs
         List<AppointmentDto.TimeSlot> dtoSlots = domainSlots.stream()
@@ -163,8 +314,104 @@ public class AppointmentService {
         return response;
     }
     
+    @Transactional(readOnly = true)
+    public AppointmentDto.AvailabilityCalendarResponse getAvailabilityCalendar(Long barberProfileId, LocalDate fromDate,
+                                                                              LocalDate toDate, Integer serviceDuration) {
+        if (toDate.isBefore(fromDate)) {
+            throw new BadRequestException("Bitiş tarihi başlangıç tarihinden önce olamaz");
+        }
+        if (fromDate.plusDays(MAX_CALENDAR_DAYS - 1).isBefore(toDate)) {
+            throw new BadRequestException("Takvim en fazla " + MAX_CALENDAR_DAYS + " gün için sorgulanabilir");
+        }
+        
+        BarberProfile profile = barberProfileRepository.findById(barberProfileId)
+            .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
+        
+        int slotDuration = resolveSlotDuration(serviceDuration);
+        
+        // One range query for the whole calendar instead of one request per day
+        Map<LocalDate, DayOccupancy> occupancies = availabilityService.loadOccupancies(barberProfileId, fromDate, toDate);
+        
+        List<AppointmentDto.DayAvailability> days = new ArrayList<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            WorkingHours workingHours = profile.getWorkingHoursForDay(date.getDayOfWeek()).orElse(null);
+            List<com.barber.domain.service.AppointmentAvailabilityService.TimeSlot> slots =
+                    availabilityService.generateAvailableSlots(workingHours, slotDuration, occupancies.get(date));
+            days.add(mapToDayAvailability(date, workingHours, slots));
+        }
+        
+        AppointmentDto.AvailabilityCalendarResponse response = new AppointmentDto.AvailabilityCalendarResponse();
+        response.setBarberProfileId(barberProfileId);
+        response.setFromDate(fromDate);
+        response.setToDate(toDate);
+        response.setSlotDuration(slotDuration);
+        response.setDays(days);
+        return response;
+    }
+    
     // Removed: isTimeSlotAvailable - Now using AppointmentAvailabilityService domain service
 
+    private static int resolveSlotDuration(Integer serviceDuration) {
+        if (serviceDuration == null) {
+            return DEFAULT_SLOT_DURATION;
+        }
+        if (serviceDuration < 1) {
+            throw new BadRequestException("Hizmet süresi pozitif olmalıdır");
+        }
+        return serviceDuration;
+    }
+
+    private AppointmentDto.DayAvailability mapToDayAvailability(
+            LocalDate date,
+            WorkingHours workingHours,
+            List<com.barber.domain.service.AppointmentAvailabilityService.TimeSlot> slots) {
+        AppointmentDto.DayAvailability day = new AppointmentDto.DayAvailability();
+        day.setDate(date);
+        day.setOpen(workingHours != null && workingHours.isOpen());
+        if (day.getOpen()) {
+            day.setOpeningTime(workingHours.getStartTime());
+            day.setClosingTime(workingHours.getEndTime());
+        }
+        
+        StringBuilder mask = new StringBuilder(slots.size());
+        int availableCount = 0;
+        for (com.barber.domain.service.AppointmentAvailabilityService.TimeSlot slot : slots) {
+            if (slot.isAvailable()) {
+                if (day.getFirstAvailableSlot() == null) {
+                    day.setFirstAvailableSlot(slot.getStartTime());
+                }
+                availableCount++;
+                mask.append('1');
+            } else {
+                mask.append('0');
+            }
+        }
+        day.setAvailableSlotCount(availableCount);
+        day.setTotalSlotCount(slots.size());
+        day.setSlotMask(mask.toString());
+        return day;
+    }
+    
+    private AppointmentDto.AppointmentResponse mapToResponse(AppointmentHistoryRow row) {
+        AppointmentDto.AppointmentResponse response = new AppointmentDto.AppointmentResponse();
+        response.setId(row.getId());
+        response.setCustomerId(row.getCustomerId());
+        response.setCustomerName(row.getCustomerName());
+        response.setBarberProfileId(row.getBarberProfileId());
+        response.setBarberShopName(row.getBarberShopName());
+        response.setServiceId(row.getServiceId());
+        response.setServiceName(row.getServiceName());
+        response.setAppointmentDate(row.getAppointmentDate());
+        response.setStartTime(row.getStartTime());
+        response.setEndTime(row.getEndTime());
+        response.setStatus(row.getStatus());
+        response.setTotalPrice(row.getTotalPrice());
+        response.setNotes(row.getNotes());
+        response.setCreatedAt(row.getCreatedAt());
+        response.setCanReview(row.getStatus() == AppointmentStatus.COMPLETED && !Boolean.TRUE.equals(row.getHasReview()));
+        return response;
+    }
+    
     private AppointmentDto.AppointmentResponse mapToResponse(Appointment appointment) {
         AppointmentDto.AppointmentResponse response = new AppointmentDto.AppointmentResponse();
         response.setId(appointment.getId());
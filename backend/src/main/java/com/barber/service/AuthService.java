@@ -5,26 +5,33 @@ import com.barber.entity.Role;
 import com.barber.entity.User;
 import com.barber.exception.BadRequestException;
 import com.barber.repository.UserRepository;
+import com.barber.security.AuthenticatedUser;
 import com.barber.security.JwtTokenProvider;
+import com.barber.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final TransactionTemplate transactionTemplate;
     
-    @Transactional
-    public AuthDto.AuthResponse register(AuthDto.RegisterRequest request) {
+    /**
+     * Register a user; the password is hashed on the password hashing executor
+     * and the user is saved once the hash is ready
+     */
+    public CompletableFuture<AuthDto.AuthResponse> register(AuthDto.RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new BadRequestException("Bu e-posta adresi zaten kullanımda");
         }
@@ -34,17 +41,27 @@ public class AuthService {
             throw new BadRequestException("Admin hesabı oluşturulamaz");
         }
         
+        return passwordHashingService.encode(request.getPassword())
+            .thenApply(passwordHash -> transactionTemplate.execute(status -> createUser(request, passwordHash)));
+    }
+    
+    private AuthDto.AuthResponse createUser(AuthDto.RegisterRequest request, String passwordHash) {
         User user = User.builder()
             .name(request.getName())
             .email(request.getEmail())
-            .passwordHash(passwordEncoder.encode(request.getPassword()))
+            .passwordHash(passwordHash)
             .phone(request.getPhone())
             .role(request.getRole())
             .build();
         
-        user = userRepository.save(user);
+        try {
+            user = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            // Concurrent registration with the same e-mail
+            throw new BadRequestException("Bu e-posta adresi zaten kullanımda");
+        }
         
-        String token = jwtTokenProvider.generateToken(user.getEmail());
+        String token = jwtTokenProvider.generateToken(user.getId(), user.getEmail(), user.getRole());
         
         return new AuthDto.AuthResponse(
             token,
@@ -55,27 +72,32 @@ public class AuthService {
         );
     }
     
-    public AuthDto.AuthResponse login(AuthDto.LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
-        
-        String token = jwtTokenProvider.generateToken(authentication);
-        
-        User user = userRepository.findByEmail(request.getEmail())
-            .orElseThrow(() -> new BadRequestException("Kullanıcı bulunamadı"));
-        
-        return new AuthDto.AuthResponse(
-            token,
-            user.getId(),
-            user.getEmail(),
-            user.getName(),
-            user.getRole()
-        );
+    /**
+     * Authenticate on the password hashing executor, so bcrypt verification
+     * never runs on a request thread
+     */
+    public CompletableFuture<AuthDto.AuthResponse> login(AuthDto.LoginRequest request) {
+        return passwordHashingService.submit(() -> {
+            Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
+            );
+            
+            // The principal was loaded while authenticating; no second user lookup
+            AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+            String token = jwtTokenProvider.generateToken(authentication);
+            
+            return new AuthDto.AuthResponse(
+                token,
+                principal.getId(),
+                principal.getEmail(),
+                principal.getName(),
+                principal.getRole()
+            );
+        });
     }
     
-    public AuthDto.UserResponse getCurrentUser(String email) {
-        User user = userRepository.findByEmail(email)
+    public AuthDto.UserResponse getCurrentUser(Long userId) {
+        User user = userRepository.findById(userId)
             .orElseThrow(() -> new BadRequestException("Kullanıcı bulunamadı"));
         
         AuthDto.UserResponse response = new AuthDto.UserResponse();
@@ -0,0 +1,233 @@
+package com.barber.service;
+
+import com.barber.common.domain.valueobject.Address;
+import com.barber.common.infrastructure.readmodel.BarberReadModel;
+import com.barber.domain.model.DayOccupancy;
+import com.barber.domain.service.AppointmentAvailabilityService;
+import com.barber.dto.BarberDto;
+import com.barber.entity.BarberProfile;
+import com.barber.entity.WorkingHours;
+import com.barber.exception.BadRequestException;
+import com.barber.repository.AppointmentRepository;
+import com.barber.repository.BarberProfileRepository;
+import com.barber.repository.projection.BarberBookedInterval;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cross-barber "first available" search.
+ *
+ * Candidate barbers (with their working hours) are loaded in one query, the time ranges of
+ * the day's active appointments of all candidates in a second query, and availability is then
+ * evaluated in memory - in parallel for large candidate sets - on occupancy bitmaps.
+ * Radius searches take their candidates from the read model's geo grid instead of loading
+ * every approved barber.
+ */
+@Service
+@RequiredArgsConstructor
+public class AvailabilitySearchService {
+
+    private static final int SEARCH_STEP_MINUTES = 15;
+    private static final int PARALLEL_THRESHOLD = 64;
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final BarberProfileRepository barberProfileRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentAvailabilityService availabilityService;
+    private final BarberReadModel barberReadModel;
+
+    @Transactional(readOnly = true)
+    public List<BarberDto.AvailableBarberResponse> findFirstAvailable(
+            String city,
+            String district,
+            Double latitude,
+            Double longitude,
+            Double radiusKm,
+            LocalDate date,
+            LocalTime from,
+            LocalTime to,
+            int serviceDuration,
+            Integer limit) {
+        LocalDate searchDate = date != null ? date : LocalDate.now();
+        if (searchDate.isBefore(LocalDate.now())) {
+            throw new BadRequestException("Geçmiş bir tarih için arama yapılamaz");
+        }
+        if (serviceDuration <= 0) {
+            throw new BadRequestException("Hizmet süresi pozitif olmalıdır");
+        }
+        if ((latitude == null) != (longitude == null)) {
+            throw new BadRequestException("Konum için enlem ve boylam birlikte verilmelidir");
+        }
+        if (radiusKm != null && radiusKm <= 0) {
+            throw new BadRequestException("Arama yarıçapı pozitif olmalıdır");
+        }
+
+        LocalTime windowStart = from != null ? from : LocalTime.MIN;
+        if (searchDate.equals(LocalDate.now()) && windowStart.isBefore(LocalTime.now())) {
+            windowStart = LocalTime.now();
+        }
+        LocalTime windowEnd = to != null ? to : LocalTime.MAX;
+        if (windowEnd.isBefore(windowStart)) {
+            throw new BadRequestException("Bitiş saati başlangıç saatinden önce olamaz");
+        }
+
+        Address.Coordinates origin = null;
+        if (latitude != null) {
+            try {
+                origin = new Address.Coordinates(latitude, longitude);
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException("Geçersiz konum");
+            }
+        }
+
+        // Copy candidates into detached snapshots so the parallel phase never touches entities
+        List<Candidate> candidates = new ArrayList<>();
+        for (BarberProfile profile : loadCandidateProfiles(city, district, origin, radiusKm)) {
+            WorkingHours workingHours = profile.getWorkingHoursForDay(searchDate.getDayOfWeek()).orElse(null);
+            if (workingHours == null || !workingHours.isOpen() || !workingHours.hasValidTimes()) {
+                continue;
+            }
+
+            Double distanceKm = null;
+            if (origin != null) {
+                Address.Coordinates location = coordinatesOf(profile);
+                if (location == null) {
+                    continue;
+                }
+                distanceKm = origin.distanceToInKm(location);
+                if (radiusKm != null && distanceKm > radiusKm) {
+                    continue;
+                }
+            }
+            candidates.add(new Candidate(profile.getId(), profile.getShopName(), profile.getCity(),
+                profile.getDistrict(), profile.getProfileImage(), profile.getAverageRating(),
+                profile.getTotalReviews(), workingHours.getStartTime(), workingHours.getEndTime(), distanceKm));
+        }
+
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, DayOccupancy> occupancies = loadOccupancies(candidates, searchDate);
+
+        LocalTime effectiveStart = windowStart;
+        Stream<Candidate> stream = candidates.size() >= PARALLEL_THRESHOLD
+            ? candidates.parallelStream()
+            : candidates.stream();
+
+        int maxResults = limit != null ? Math.min(Math.max(limit, 1), MAX_LIMIT) : DEFAULT_LIMIT;
+
+        return stream
+            .map(candidate -> availabilityService.findFirstAvailableStart(
+                    candidate.openingTime(),
+                    candidate.closingTime(),
+                    occupancies.get(candidate.barberProfileId()),
+                    effectiveStart,
+                    windowEnd,
+                    serviceDuration,
+                    SEARCH_STEP_MINUTES)
+                .map(slot -> toResponse(candidate, searchDate, slot)))
+            .flatMap(Optional::stream)
+            .sorted(Comparator.comparing(BarberDto.AvailableBarberResponse::getFirstAvailableTime)
+                .thenComparing(BarberDto.AvailableBarberResponse::getDistanceKm,
+                    Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(BarberDto.AvailableBarberResponse::getAverageRating, Comparator.reverseOrder()))
+            .limit(maxResults)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Approved barbers with their working hours that can match the search.
+     * A radius search first narrows the barbers to those the read model's geo grid places within
+     * the radius, so only they are loaded; the distance is checked again on the loaded rows.
+     */
+    private List<BarberProfile> loadCandidateProfiles(String city, String district,
+                                                      Address.Coordinates origin, Double radiusKm) {
+        if (origin == null || radiusKm == null) {
+            return barberProfileRepository.findApprovedBarbersWithWorkingHours(city, district);
+        }
+
+        List<Long> nearbyIds = barberReadModel.findNearby(origin, radiusKm, Integer.MAX_VALUE).stream()
+            .map(nearby -> nearby.barber().id())
+            .toList();
+        if (nearbyIds.isEmpty()) {
+            return List.of();
+        }
+        return barberProfileRepository.findApprovedBarbersWithWorkingHoursByIdIn(nearbyIds, city, district);
+    }
+
+    /**
+     * One batched query for the time ranges of the active appointments of every candidate on the date
+     */
+    private Map<Long, DayOccupancy> loadOccupancies(List<Candidate> candidates, LocalDate date) {
+        Map<Long, DayOccupancy> occupancies = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            occupancies.put(candidate.barberProfileId(), DayOccupancy.empty());
+        }
+
+        List<BarberBookedInterval> intervals = appointmentRepository.findBookedIntervals(
+            occupancies.keySet(), date, AppointmentAvailabilityService.ACTIVE_STATUSES);
+        for (BarberBookedInterval interval : intervals) {
+            occupancies.get(interval.getBarberProfileId())
+                .occupy(interval.getStartTime(), interval.getEndTime());
+        }
+        return occupancies;
+    }
+
+    private BarberDto.AvailableBarberResponse toResponse(Candidate candidate, LocalDate date, LocalTime slot) {
+        BarberDto.AvailableBarberResponse response = new BarberDto.AvailableBarberResponse();
+        response.setId(candidate.barberProfileId());
+        response.setShopName(candidate.shopName());
+        response.setCity(candidate.city());
+        response.setDistrict(candidate.district());
+        response.setProfileImage(candidate.profileImage());
+        response.setAverageRating(candidate.averageRating());
+        response.setTotalReviews(candidate.totalReviews());
+        response.setDistanceKm(candidate.distanceKm());
+        response.setDate(date);
+        response.setFirstAvailableTime(slot);
+        return response;
+    }
+
+    /**
+     * Stored coordinates of a barber, or null if missing or out of range
+     */
+    private static Address.Coordinates coordinatesOf(BarberProfile profile) {
+        if (profile.getLatitude() == null || profile.getLongitude() == null) {
+            return null;
+        }
+        try {
+            return new Address.Coordinates(profile.getLatitude(), profile.getLongitude());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Detached copy of the candidate fields used by the parallel phase and the response
+     */
+    private record Candidate(
+        Long barberProfileId,
+        String shopName,
+        String city,
+        String district,
+        String profileImage,
+        Double averageRating,
+        Integer totalReviews,
+        LocalTime openingTime,
+        LocalTime closingTime,
+        Double distanceKm
+    ) {}
+}
@@ -1,5 +1,11 @@
 package com.barber.service;
 
+import com.barber.common.domain.event.BarberScheduleChanged;
+import com.barber.common.domain.valueobject.Address;
+import com.barber.common.infrastructure.cache.BarberEntityCache;
+import com.barber.common.infrastructure.readmodel.BarberReadModel;
+import com.barber.common.infrastructure.readmodel.BarberSummary;
+import com.barber.domain.service.BarberRatingService;
 import com.barber.dto.BarberDto;
 import com.barber.dto.ServiceDto;
 import com.barber.dto.WorkingHoursDto;
@@ -7,16 +13,18 @@ import com.barber.entity.*;
 import com.barber.exception.BadRequestException;
 import com.barber.exception.ResourceNotFoundException;
 import com.barber.repository.*;
+import com.barber.repository.projection.BarberListView;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.math.BigDecimal;
 import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +35,20 @@ public class BarberService {
     private final ServiceRepository serviceRepository;
     private final WorkingHoursRepository workingHoursRepository;
     private final UserRepository userRepository;
+    private final com.barber.common.infrastructure.event.DomainEventPublisher eventPublisher;
+    private final BarberReadModel barberReadModel;
+    private final BarberEntityCache barberEntityCache;
+    private final BarberRatingService barberRatingService;
+    
+    private static final double TOP_RATED_MIN_RATING = 4.0;
+    private static final int DEFAULT_TOP_RATED_LIMIT = 10;
+    private static final int MAX_TOP_RATED_LIMIT = 50;
+    private static final int DEFAULT_NEARBY_LIMIT = 20;
+    private static final int MAX_NEARBY_LIMIT = 100;
+    private static final double MAX_NEARBY_RADIUS_KM = 100.0;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int[] RATING_TREND_WINDOW_DAYS = {7, 30, 90};
     
     private static final Map<DayOfWeek, String> DAY_NAMES = Map.of(
         DayOfWeek.MONDAY, "Pazartesi",
@@ -80,6 +102,7 @@ public class BarberService {
         java.time.LocalTime defaultStart = java.time.LocalTime.of(9, 0);
         java.time.LocalTime defaultEnd = java.time.LocalTime.of(19, 0);
         
+        List<WorkingHours> week = new ArrayList<>();
         for (DayOfWeek day : DayOfWeek.values()) {
             WorkingHours wh = WorkingHours.builder()
                 .barberProfile(profile)
@@ -89,8 +112,11 @@ public class BarberService {
                 .isClosed(day == DayOfWeek.SUNDAY)
                 .build();
             
-            workingHoursRepository.save(wh);
+            week.add(wh);
         }
+        
+        // One batched insert for the whole week
+        workingHoursRepository.saveAll(week);
     }
     
     @Transactional
@@ -110,15 +136,85 @@ public class BarberService {
         );
 
         profile = barberProfileRepository.save(profile);
+        eventPublisher.publishAll(profile.pullDomainEvents());
 
         return mapToDetailResponse(profile);
     }
     
     public Page<BarberDto.BarberListResponse> getApprovedBarbers(String city, String district, Pageable pageable) {
-        Page<BarberProfile> profiles = barberProfileRepository.findApprovedBarbers(city, district, pageable);
-        return profiles.map(this::mapToListResponse);
+        // Served from the denormalized read model, no database round trip
+        return barberReadModel.findApproved(city, district, pageable)
+            .map(this::mapSummaryToResponse);
+    }
+    
+    public List<BarberDto.BarberListResponse> getTopRatedBarbers(Double minRating, Integer limit) {
+        double threshold = minRating != null ? minRating : TOP_RATED_MIN_RATING;
+        int maxResults = limit != null ? Math.min(Math.max(limit, 1), MAX_TOP_RATED_LIMIT) : DEFAULT_TOP_RATED_LIMIT;
+        
+        return barberReadModel.findTopRated(threshold, maxResults)
+            .stream()
+            .map(this::mapSummaryToResponse)
+            .collect(Collectors.toList());
+    }
+    
+    public List<BarberDto.NearbyBarberResponse> getNearbyBarbers(Double latitude, Double longitude, Double radiusKm, Integer limit) {
+        if (latitude == null || longitude == null) {
+            throw new BadRequestException("Konum için enlem ve boylam birlikte verilmelidir");
+        }
+        if (radiusKm != null && (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM)) {
+            throw new BadRequestException("Arama yarıçapı 0 ile " + (int) MAX_NEARBY_RADIUS_KM + " km arasında olmalıdır");
+        }
+        
+        Address.Coordinates origin;
+        try {
+            origin = new Address.Coordinates(latitude, longitude);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Geçersiz konum");
+        }
+        
+        int maxResults = limit != null ? Math.min(Math.max(limit, 1), MAX_NEARBY_LIMIT) : DEFAULT_NEARBY_LIMIT;
+        double radius = radiusKm != null ? radiusKm : MAX_NEARBY_RADIUS_KM;
+        
+        return barberReadModel.findNearby(origin, radius, maxResults)
+            .stream()
+            .map(this::mapNearbyToResponse)
+            .collect(Collectors.toList());
+    }
+    
+    public List<BarberDto.BarberListResponse> searchBarbers(String query, String city, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Arama metni boş olamaz");
+        }
+        
+        int maxResults = limit != null ? Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT) : DEFAULT_SEARCH_LIMIT;
+        
+        return barberReadModel.search(query, city, maxResults)
+            .stream()
+            .map(this::mapSummaryToResponse)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Read a barber's public data together with its current revision
+     * The revision and everything the reader loads share one read-only transaction, so one
+     * connection: with read replicas both come from the same replica, and a revision-based
+     * ETag always describes the data it is sent with. The second-level cache is bypassed for the
+     * same reason; conditional requests that match are answered from the revision alone.
+     *
+     * @param barberProfileId The barber profile ID
+     * @param reader Receives the revision of the profile, services and working hours
+     * @return The reader's result
+     */
+    @Transactional(readOnly = true)
+    public <T> T readAtRevision(Long barberProfileId, LongFunction<T> reader) {
+        long revision = barberProfileRepository.findRevisionById(barberProfileId)
+            .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
+        // The body must not come from a cached copy older than the revision it is tagged with
+        barberEntityCache.bypassForCurrentTransaction();
+        return reader.apply(revision);
     }
     
+    @Transactional(readOnly = true)
     public BarberDto.BarberDetailResponse getBarberById(Long id) {
         BarberProfile profile = barberProfileRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Kuaför bulunamadı"));
@@ -149,6 +245,7 @@ public class BarberService {
 
         // Save the aggregate root (cascade will save the service)
         barberProfileRepository.save(profile);
+        eventPublisher.publishAll(profile.pullDomainEvents());
 
         return mapServiceToResponse(service);
     }
@@ -170,6 +267,7 @@ public class BarberService {
 
         // Save the aggregate root (cascade will save the service)
         barberProfileRepository.save(profile);
+        eventPublisher.publishAll(profile.pullDomainEvents());
 
         return mapServiceToResponse(service);
     }
@@ -184,8 +282,10 @@ public class BarberService {
 
         // Save the aggregate root (cascade will delete the service)
         barberProfileRepository.save(profile);
+        eventPublisher.publishAll(profile.pullDomainEvents());
     }
     
+    @Transactional(readOnly = true)
     public List<ServiceDto.ServiceResponse> getServices(Long barberProfileId) {
         return serviceRepository.findByBarberProfileIdAndIsActiveTrue(barberProfileId)
             .stream()
@@ -215,9 +315,33 @@ public class BarberService {
         // Save the aggregate root (cascade will save working hours)
         barberProfileRepository.save(profile);
 
+        // Cached schedules of this barber are now stale
+        eventPublisher.publish(BarberScheduleChanged.now(profile.getId()));
+
         return getWorkingHours(profile.getId());
     }
     
+    public BarberDto.RatingTrendResponse getRatingTrends(Long barberProfileId) {
+        List<BarberDto.RatingWindowResponse> windows = barberRatingService
+            .calculateRatingTrends(barberProfileId, RATING_TREND_WINDOW_DAYS)
+            .stream()
+            .map(trend -> {
+                BarberDto.RatingWindowResponse window = new BarberDto.RatingWindowResponse();
+                window.setDays(trend.days());
+                window.setAverageRating(trend.averageRating());
+                window.setReviewCount(trend.reviewCount());
+                window.setChangeFromOverall(trend.changeFromOverall());
+                return window;
+            })
+            .collect(Collectors.toList());
+        
+        BarberDto.RatingTrendResponse response = new BarberDto.RatingTrendResponse();
+        response.setBarberProfileId(barberProfileId);
+        response.setWindows(windows);
+        return response;
+    }
+    
+    @Transactional(readOnly = true)
     public List<WorkingHoursDto.WorkingHoursResponse> getWorkingHours(Long barberProfileId) {
         return workingHoursRepository.findByBarberProfileIdOrderByDayOfWeek(barberProfileId)
             .stream()
@@ -226,26 +350,52 @@ public class BarberService {
     }
     
     // Mapping methods
-    private BarberDto.BarberListResponse mapToListResponse(BarberProfile profile) {
+    static BarberDto.BarberListResponse mapListViewToResponse(BarberListView view) {
         BarberDto.BarberListResponse response = new BarberDto.BarberListResponse();
-        response.setId(profile.getId());
-        response.setShopName(profile.getShopName());
-        response.setCity(profile.getCity());
-        response.setDistrict(profile.getDistrict());
-        response.setProfileImage(profile.getProfileImage());
-        response.setAverageRating(profile.getAverageRating());
-        response.setTotalReviews(profile.getTotalReviews());
-        
-        // Get minimum price
-        List<com.barber.entity.Service> services = serviceRepository.findByBarberProfileIdAndIsActiveTrue(profile.getId());
-        if (!services.isEmpty()) {
-            BigDecimal minPrice = services.stream()
-                .map(com.barber.entity.Service::getPrice)
-                .min(Comparator.naturalOrder())
-                .orElse(BigDecimal.ZERO);
-            response.setStartingPrice(minPrice + " TL'den başlayan fiyatlar");
+        response.setId(view.getId());
+        response.setShopName(view.getShopName());
+        response.setCity(view.getCity());
+        response.setDistrict(view.getDistrict());
+        response.setProfileImage(view.getProfileImage());
+        response.setAverageRating(view.getAverageRating());
+        response.setTotalReviews(view.getTotalReviews());
+        if (view.getMinPrice() != null) {
+            response.setStartingPrice(view.getMinPrice() + " TL'den başlayan fiyatlar");
         }
-        
+        return response;
+    }
+    
+    private BarberDto.BarberListResponse mapSummaryToResponse(BarberSummary summary) {
+        BarberDto.BarberListResponse response = new BarberDto.BarberListResponse();
+        response.setId(summary.id());
+        response.setShopName(summary.shopName());
+        response.setCity(summary.city());
+        response.setDistrict(summary.district());
+        response.setProfileImage(summary.profileImage());
+        response.setAverageRating(summary.averageRating());
+        response.setTotalReviews(summary.totalReviews());
+        if (summary.minPrice() != null) {
+            response.setStartingPrice(summary.minPrice() + " TL'den başlayan fiyatlar");
+        }
+        return response;
+    }
+    
+    private BarberDto.NearbyBarberResponse mapNearbyToResponse(BarberReadModel.NearbyBarber nearby) {
+        BarberSummary summary = nearby.barber();
+        BarberDto.NearbyBarberResponse response = new BarberDto.NearbyBarberResponse();
+        response.setId(summary.id());
+        response.setShopName(summary.shopName());
+        response.setCity(summary.city());
+        response.setDistrict(summary.district());
+        response.setProfileImage(summary.profileImage());
+        response.setAverageRating(summary.averageRating());
+        response.setTotalReviews(summary.totalReviews());
+        if (summary.minPrice() != null) {
+            response.setStartingPrice(summary.minPrice() + " TL'den başlayan fiyatlar");
+        }
+        response.setLatitude(summary.latitude());
+        response.setLongitude(summary.longitude());
+        response.setDistanceKm(Math.round(nearby.distanceKm() * 100) / 100.0);
         return response;
     }
     
@@ -1,5 +1,7 @@
 package com.barber.service;
 
+import com.barber.common.infrastructure.pagination.ContinuationToken;
+import com.barber.dto.CursorPage;
 import com.barber.dto.ReviewDto;
 import com.barber.entity.*;
 import com.barber.exception.BadRequestException;
@@ -7,19 +9,27 @@ import com.barber.exception.ResourceNotFoundException;
 import com.barber.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
 
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final String REVIEW_FEED_CURSOR = "review-feed";
+
     private final ReviewRepository reviewRepository;
     private final AppointmentRepository appointmentRepository;
     private final BarberProfileRepository barberProfileRepository;
     private final UserRepository userRepository;
-    private final com.barber.domain.service.BarberRatingService ratingService;
     private final com.barber.common.infrastructure.event.DomainEventPublisher eventPublisher;
     
     @Transactional
@@ -51,25 +61,57 @@ public class ReviewService {
             .comment(request.getComment())
             .build();
         
-        // Mark as submitted to trigger domain events
-        review.markAsSubmitted();
-
         review = reviewRepository.save(review);
 
-        // Publish domain events
-        eventPublisher.publishAll(review.pullDomainEvents());
+        // Mark as submitted to trigger domain events (needs the persisted ID)
+        review.markAsSubmitted();
 
-        // Use domain service to recalculate rating
-        ratingService.recalculateRating(appointment.getBarberProfile().getId());
+        // Publish domain events (the barber's rating is updated from ReviewSubmitted)
+        eventPublisher.publishAll(review.pullDomainEvents());
 
         return mapToResponse(review);
     }
     
+    @Transactional(readOnly = true)
     public Page<ReviewDto.ReviewResponse> getBarberReviews(Long barberProfileId, Pageable pageable) {
         return reviewRepository.findByBarberProfileIdAndIsVisibleTrueOrderByCreatedAtDesc(barberProfileId, pageable)
             .map(this::mapToResponse);
     }
     
+    /**
+     * Keyset-paginated visible reviews of a barber, newest first
+     *
+     * @param cursor Token from the previous page, null for the first page
+     * @param size Page size (at most 100)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewDto.ReviewResponse> getBarberReviewFeed(Long barberProfileId, String cursor, int size) {
+        LocalDateTime createdAt = LocalDateTime.of(9999, 12, 31, 23, 59); // Sorts before every review
+        long id = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = ContinuationToken.decode(cursor, REVIEW_FEED_CURSOR, 2);
+            try {
+                createdAt = LocalDateTime.parse(keys[0]);
+                id = Long.parseLong(keys[1]);
+            } catch (DateTimeParseException | NumberFormatException ex) {
+                throw ContinuationToken.invalid();
+            }
+        }
+        
+        int limit = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        // One row more than the page size tells whether another page follows
+        List<Review> reviews = reviewRepository.findVisibleReviewsAfter(barberProfileId, createdAt, id, PageRequest.of(0, limit + 1));
+        boolean hasMore = reviews.size() > limit;
+        List<Review> page = hasMore ? reviews.subList(0, limit) : reviews;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            Review last = page.get(page.size() - 1);
+            nextCursor = ContinuationToken.encode(REVIEW_FEED_CURSOR, last.getCreatedAt(), last.getId());
+        }
+        return new CursorPage<>(page.stream().map(this::mapToResponse).collect(Collectors.toList()), nextCursor);
+    }
+    
     @Transactional
     public ReviewDto.ReviewResponse updateVisibility(Long reviewId, ReviewDto.UpdateVisibilityRequest request) {
         Review review = reviewRepository.findById(reviewId)
@@ -82,8 +124,8 @@ public class ReviewService {
         }
         review = reviewRepository.save(review);
 
-        // Use domain service to recalculate rating
-        ratingService.recalculateRating(review.getBarberProfile().getId());
+        // Publish domain events (the barber's rating is updated from ReviewVisibilityChanged)
+        eventPublisher.publishAll(review.pullDomainEvents());
 
         return mapToResponse(review);
     }
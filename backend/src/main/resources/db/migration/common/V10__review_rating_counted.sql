@@ -0,0 +1,7 @@
+-- Whether a review's rating is included in its barber's rating totals.
+-- A review whose flag differs from its visibility still has a delta to apply. Applying it flips
+-- the flag in the same transaction, so a redelivered review event finds nothing left to add.
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS rating_counted BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- The totals maintained so far cover the visible reviews
+UPDATE reviews SET rating_counted = is_visible;
@@ -0,0 +1,102 @@
+-- Baseline schema: the tables exactly as ddl-auto created them before the schema was
+-- managed by migrations (identity ids, no secondary indexes).
+-- Portable between H2 (development) and PostgreSQL (production).
+-- Existing production databases are baselined at this version; everything added since
+-- lives in the later migrations, which are written to also apply to databases that
+-- ddl-auto had already partly updated.
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    password_hash VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT ck_users_role CHECK (role IN ('CUSTOMER', 'BARBER', 'ADMIN'))
+);
+
+CREATE TABLE barber_profiles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    shop_name VARCHAR(255) NOT NULL,
+    description TEXT,
+    address VARCHAR(255) NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    district VARCHAR(255) NOT NULL,
+    latitude FLOAT(53),
+    longitude FLOAT(53),
+    profile_image VARCHAR(255),
+    status VARCHAR(255) NOT NULL,
+    average_rating FLOAT(53) NOT NULL,
+    total_reviews INTEGER NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_barber_profiles PRIMARY KEY (id),
+    CONSTRAINT uk_barber_profiles_user UNIQUE (user_id),
+    CONSTRAINT fk_barber_profiles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT ck_barber_profiles_status CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED'))
+);
+
+CREATE TABLE services (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    barber_profile_id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    duration_minutes INTEGER NOT NULL,
+    price NUMERIC(10, 2) NOT NULL,
+    is_active BOOLEAN NOT NULL,
+    CONSTRAINT pk_services PRIMARY KEY (id),
+    CONSTRAINT fk_services_barber_profile FOREIGN KEY (barber_profile_id) REFERENCES barber_profiles (id)
+);
+
+CREATE TABLE working_hours (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    barber_profile_id BIGINT NOT NULL,
+    day_of_week VARCHAR(255) NOT NULL,
+    start_time TIME(6),
+    end_time TIME(6),
+    is_closed BOOLEAN NOT NULL,
+    CONSTRAINT pk_working_hours PRIMARY KEY (id),
+    CONSTRAINT fk_working_hours_barber_profile FOREIGN KEY (barber_profile_id) REFERENCES barber_profiles (id),
+    CONSTRAINT ck_working_hours_day CHECK (day_of_week IN
+        ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY'))
+);
+
+CREATE TABLE appointments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    customer_id BIGINT NOT NULL,
+    barber_profile_id BIGINT NOT NULL,
+    service_id BIGINT NOT NULL,
+    appointment_date DATE NOT NULL,
+    start_time TIME(6) NOT NULL,
+    end_time TIME(6) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    total_price NUMERIC(10, 2) NOT NULL,
+    notes TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    CONSTRAINT pk_appointments PRIMARY KEY (id),
+    CONSTRAINT fk_appointments_customer FOREIGN KEY (customer_id) REFERENCES users (id),
+    CONSTRAINT fk_appointments_barber_profile FOREIGN KEY (barber_profile_id) REFERENCES barber_profiles (id),
+    CONSTRAINT fk_appointments_service FOREIGN KEY (service_id) REFERENCES services (id),
+    CONSTRAINT ck_appointments_status CHECK (status IN ('PENDING', 'CONFIRMED', 'CANCELLED', 'COMPLETED'))
+);
+
+CREATE TABLE reviews (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    appointment_id BIGINT NOT NULL,
+    customer_id BIGINT NOT NULL,
+    barber_profile_id BIGINT NOT NULL,
+    rating INTEGER NOT NULL,
+    comment TEXT,
+    is_visible BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_reviews PRIMARY KEY (id),
+    CONSTRAINT uk_reviews_appointment UNIQUE (appointment_id),
+    CONSTRAINT fk_reviews_appointment FOREIGN KEY (appointment_id) REFERENCES appointments (id),
+    CONSTRAINT fk_reviews_customer FOREIGN KEY (customer_id) REFERENCES users (id),
+    CONSTRAINT fk_reviews_barber_profile FOREIGN KEY (barber_profile_id) REFERENCES barber_profiles (id)
+);
@@ -0,0 +1,10 @@
+-- Ids come from pooled sequences (allocation size 50) so that inserts can be batched.
+-- The identity defaults of V1 stay in place but are no longer used by the application;
+-- on existing databases IdSequenceAligner moves the sequences past the ids in use.
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS barber_profiles_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS services_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS working_hours_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS appointments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS reviews_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq START WITH 1 INCREMENT BY 50;
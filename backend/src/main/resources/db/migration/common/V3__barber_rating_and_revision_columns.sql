@@ -0,0 +1,13 @@
+-- Barber profile columns for incremental ratings, ranking and public resource versions.
+
+ALTER TABLE barber_profiles ADD COLUMN IF NOT EXISTS rating_sum BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE barber_profiles ADD COLUMN IF NOT EXISTS decayed_rating_sum FLOAT(53) DEFAULT 0 NOT NULL;
+ALTER TABLE barber_profiles ADD COLUMN IF NOT EXISTS decayed_review_weight FLOAT(53) DEFAULT 0 NOT NULL;
+ALTER TABLE barber_profiles ADD COLUMN IF NOT EXISTS ranking_score FLOAT(53) DEFAULT 0 NOT NULL;
+ALTER TABLE barber_profiles ADD COLUMN IF NOT EXISTS revision BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE barber_profiles ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
+
+-- Start the running rating sum from the visible reviews. The recency-weighted totals and
+-- ranking scores are recomputed by the ranking job when the application starts.
+UPDATE barber_profiles SET rating_sum = COALESCE(
+    (SELECT SUM(r.rating) FROM reviews r WHERE r.barber_profile_id = barber_profiles.id AND r.is_visible = TRUE), 0);
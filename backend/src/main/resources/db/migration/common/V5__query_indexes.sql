@@ -0,0 +1,26 @@
+-- Composite indexes for the hot queries, which had nothing but primary keys to use.
+-- IF NOT EXISTS keeps the script safe on databases where ddl-auto already created some of them.
+
+-- Superseded by idx_appointments_barber_date_time, which starts with the same columns
+DROP INDEX IF EXISTS idx_appointments_barber_date;
+
+-- Appointments of a barber by day (slots, conflicts, calendar) and barber history pages
+CREATE INDEX IF NOT EXISTS idx_appointments_barber_date_time ON appointments (barber_profile_id, appointment_date, start_time, id);
+
+-- Customer history pages
+CREATE INDEX IF NOT EXISTS idx_appointments_customer_date_time ON appointments (customer_id, appointment_date, start_time, id);
+
+-- Visible reviews of a barber, newest first (review pages, rating aggregates)
+CREATE INDEX IF NOT EXISTS idx_reviews_barber_visible_created ON reviews (barber_profile_id, is_visible, created_at, id);
+
+-- Approved barbers by ranking score (listings)
+CREATE INDEX IF NOT EXISTS idx_barber_profiles_status_ranking ON barber_profiles (status, ranking_score);
+
+-- Barber profiles by status, newest first (admin approval queue, read model rebuild)
+CREATE INDEX IF NOT EXISTS idx_barber_profiles_status_created ON barber_profiles (status, created_at);
+
+-- Active services of a barber (service lists, minimum price in listings)
+CREATE INDEX IF NOT EXISTS idx_services_barber_active ON services (barber_profile_id, is_active);
+
+-- Working hours of a barber, by day
+CREATE INDEX IF NOT EXISTS idx_working_hours_barber_day ON working_hours (barber_profile_id, day_of_week);
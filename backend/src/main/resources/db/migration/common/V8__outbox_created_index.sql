@@ -0,0 +1,3 @@
+-- Outbox events by creation time: every instance tails the outbox through this index to
+-- deliver events to its local projections (OutboxBroadcaster)
+CREATE INDEX IF NOT EXISTS idx_outbox_events_created ON outbox_events (created_at, id);
@@ -0,0 +1,5 @@
+-- H2 counterpart of postgresql/V7: active appointments of a barber must not overlap.
+-- H2 has no exclusion constraints, so a row trigger performs the same check.
+CREATE TRIGGER trg_appointments_no_overlap
+    BEFORE INSERT, UPDATE ON appointments
+    FOR EACH ROW CALL 'com.barber.common.infrastructure.persistence.H2AppointmentOverlapTrigger';
@@ -0,0 +1,4 @@
+-- Reviews with a rating delta still to apply; the startup sweep finds them without scanning the table
+CREATE INDEX IF NOT EXISTS idx_reviews_rating_pending
+    ON reviews (barber_profile_id)
+    WHERE rating_counted <> is_visible;
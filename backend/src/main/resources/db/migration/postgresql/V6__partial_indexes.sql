@@ -0,0 +1,16 @@
+-- PostgreSQL-only partial indexes for the hot queries.
+
+-- Only PENDING/CONFIRMED appointments occupy a chair; slot and conflict lookups never read the rest
+CREATE INDEX IF NOT EXISTS idx_appointments_barber_active
+    ON appointments (barber_profile_id, appointment_date, start_time, end_time)
+    WHERE status IN ('PENDING', 'CONFIRMED');
+
+-- Rating aggregates read only visible reviews; the rating is included so they never touch the table
+CREATE INDEX IF NOT EXISTS idx_reviews_barber_visible_rating
+    ON reviews (barber_profile_id, created_at) INCLUDE (rating)
+    WHERE is_visible;
+
+-- The outbox dispatcher polls pending events in id order; published rows are skipped entirely
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending
+    ON outbox_events (next_attempt_at, id)
+    WHERE status = 'PENDING';
@@ -0,0 +1,75 @@
+-- PostgreSQL-only overlap guard: two active appointments of a barber can never overlap,
+-- whichever code path inserts them. Intervals are half-open, so back-to-back appointments
+-- are allowed; an end time at or before the start time means the appointment ends the next day.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Before the guard existed, concurrent bookings could both pass the conflict check, so a live
+-- database may already hold overlapping active appointments, which would make the constraint
+-- fail. The booking made first is kept and every active appointment overlapping it is cancelled.
+-- Cancelled appointments are recorded here so their customers can be contacted.
+CREATE TABLE IF NOT EXISTS appointment_overlap_cancellations (
+    appointment_id BIGINT NOT NULL,
+    kept_appointment_id BIGINT NOT NULL,
+    previous_status VARCHAR(255) NOT NULL,
+    cancelled_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_appointment_overlap_cancellations PRIMARY KEY (appointment_id)
+);
+
+DO $$
+DECLARE
+    cancelled INTEGER;
+BEGIN
+    -- Each round keeps the appointments that overlap no earlier booking and cancels the ones
+    -- overlapping them; repeated until no overlaps are left
+    LOOP
+        WITH active AS (
+            SELECT id, barber_profile_id, appointment_date, status, created_at,
+                   tsrange(appointment_date + start_time,
+                           CASE WHEN end_time > start_time THEN appointment_date + end_time
+                                ELSE appointment_date + 1 + end_time END,
+                           '[)') AS slot
+            FROM appointments
+            WHERE status IN ('PENDING', 'CONFIRMED')
+        ),
+        kept AS (
+            SELECT a.* FROM active a
+            WHERE NOT EXISTS (
+                SELECT 1 FROM active b
+                WHERE b.barber_profile_id = a.barber_profile_id
+                  AND b.appointment_date BETWEEN a.appointment_date - 1 AND a.appointment_date + 1
+                  AND (b.created_at, b.id) < (a.created_at, a.id)
+                  AND b.slot && a.slot)
+        ),
+        overlapping AS (
+            SELECT DISTINCT ON (a.id) a.id, a.status, k.id AS kept_id
+            FROM active a
+            JOIN kept k ON k.barber_profile_id = a.barber_profile_id
+                       AND k.appointment_date BETWEEN a.appointment_date - 1 AND a.appointment_date + 1
+                       AND (k.created_at, k.id) < (a.created_at, a.id)
+                       AND k.slot && a.slot
+            ORDER BY a.id, k.id
+        ),
+        recorded AS (
+            INSERT INTO appointment_overlap_cancellations (appointment_id, kept_appointment_id, previous_status, cancelled_at)
+            SELECT id, kept_id, status, now() FROM overlapping
+            ON CONFLICT (appointment_id) DO NOTHING
+        )
+        UPDATE appointments SET status = 'CANCELLED', updated_at = now()
+        WHERE id IN (SELECT id FROM overlapping);
+
+        GET DIAGNOSTICS cancelled = ROW_COUNT;
+        EXIT WHEN cancelled = 0;
+        RAISE NOTICE 'Cancelled % overlapping appointments (see appointment_overlap_cancellations)', cancelled;
+    END LOOP;
+END $$;
+
+ALTER TABLE appointments
+    ADD CONSTRAINT ex_appointments_no_overlap
+    EXCLUDE USING gist (
+        barber_profile_id WITH =,
+        tsrange(appointment_date + start_time,
+                CASE WHEN end_time > start_time THEN appointment_date + end_time
+                     ELSE appointment_date + 1 + end_time END,
+                '[)') WITH &&
+    )
+    WHERE (status IN ('PENDING', 'CONFIRMED'));
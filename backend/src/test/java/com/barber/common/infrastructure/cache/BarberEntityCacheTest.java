@@ -0,0 +1,143 @@
+package com.barber.common.infrastructure.cache;
+
+import com.barber.common.domain.event.BarberProfileChanged;
+import com.barber.common.domain.event.BarberScheduleChanged;
+import com.barber.common.infrastructure.event.BroadcastDomainEvent;
+import com.barber.dto.AppointmentDto;
+import com.barber.repository.BarberProfileRepository;
+import com.barber.repository.ServiceRepository;
+import com.barber.service.AppointmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes made by another instance are simulated with plain JDBC, which Hibernate's second-level
+ * cache on this instance does not see. Bypassing reads and broadcast evictions must both surface them.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.com.barber=INFO"})
+@ActiveProfiles("dev")
+class BarberEntityCacheTest {
+
+    @Autowired
+    private BarberEntityCache barberEntityCache;
+
+    @Autowired
+    private BarberScheduleCache scheduleCache;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private BarberProfileRepository barberProfileRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long barberProfileId;
+    private Long serviceId;
+    private BigDecimal price;
+    private LocalTime mondayOpening;
+
+    @BeforeEach
+    void findBarber() {
+        barberProfileId = jdbcTemplate.queryForObject(
+            "SELECT b.id FROM barber_profiles b JOIN users u ON u.id = b.user_id WHERE u.email = 'mustafa@barber.com'",
+            Long.class);
+        serviceId = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM services WHERE barber_profile_id = ?", Long.class, barberProfileId);
+        price = jdbcTemplate.queryForObject("SELECT price FROM services WHERE id = ?", BigDecimal.class, serviceId);
+        mondayOpening = jdbcTemplate.queryForObject(
+            "SELECT start_time FROM working_hours WHERE barber_profile_id = ? AND day_of_week = 'MONDAY'",
+            LocalTime.class, barberProfileId);
+    }
+
+    @AfterEach
+    void restore() {
+        jdbcTemplate.update("UPDATE services SET price = ? WHERE id = ?", price, serviceId);
+        jdbcTemplate.update("UPDATE working_hours SET start_time = ? WHERE barber_profile_id = ? AND day_of_week = 'MONDAY'",
+            mondayOpening, barberProfileId);
+        barberEntityCache.evictBarber(barberProfileId);
+        scheduleCache.evictBarber(barberProfileId);
+    }
+
+    @Test
+    void bypassingReadSeesRemoteWrite() {
+        assertThat(cachedPrice()).isEqualByComparingTo(price);
+        jdbcTemplate.update("UPDATE services SET price = price + 25 WHERE id = ?", serviceId);
+
+        // Still served from this instance's cache
+        assertThat(cachedPrice()).isEqualByComparingTo(price);
+
+        BigDecimal current = transactionTemplate.execute(status -> {
+            barberEntityCache.bypassForCurrentTransaction();
+            return serviceRepository.findById(serviceId).orElseThrow().getPrice();
+        });
+        assertThat(current).isEqualByComparingTo(price.add(BigDecimal.valueOf(25)));
+    }
+
+    @Test
+    void profileChangeBroadcastEvictsCachedServices() {
+        assertThat(cachedPrice()).isEqualByComparingTo(price);
+        jdbcTemplate.update("UPDATE services SET price = price + 40 WHERE id = ?", serviceId);
+
+        eventPublisher.publishEvent(new BroadcastDomainEvent<>(BarberProfileChanged.now(barberProfileId)));
+
+        assertThat(cachedPrice()).isEqualByComparingTo(price.add(BigDecimal.valueOf(40)));
+    }
+
+    @Test
+    void scheduleReloadReadsCurrentWorkingHours() {
+        LocalDate monday = LocalDate.now().plusWeeks(3).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+        LocalTime later = mondayOpening.plusHours(1);
+        // Put the working hours into the second-level cache
+        transactionTemplate.executeWithoutResult(status ->
+            barberProfileRepository.findById(barberProfileId).orElseThrow().getWorkingHoursForDay(DayOfWeek.MONDAY));
+        assertThat(firstSlot(monday)).isEqualTo(mondayOpening);
+
+        jdbcTemplate.update("UPDATE working_hours SET start_time = ? WHERE barber_profile_id = ? AND day_of_week = 'MONDAY'",
+            later, barberProfileId);
+        // Only the local schedule snapshot is dropped; the reload must not take the cached hours
+        scheduleCache.evictBarber(barberProfileId);
+        assertThat(firstSlot(monday)).isEqualTo(later);
+
+        jdbcTemplate.update("UPDATE working_hours SET start_time = ? WHERE barber_profile_id = ? AND day_of_week = 'MONDAY'",
+            mondayOpening, barberProfileId);
+        eventPublisher.publishEvent(new BroadcastDomainEvent<>(BarberScheduleChanged.now(barberProfileId)));
+        assertThat(firstSlot(monday)).isEqualTo(mondayOpening);
+    }
+
+    // ==================== HELPERS ====================
+
+    private BigDecimal cachedPrice() {
+        return transactionTemplate.execute(status -> serviceRepository.findById(serviceId).orElseThrow().getPrice());
+    }
+
+    private LocalTime firstSlot(LocalDate date) {
+        AppointmentDto.AvailableSlotsResponse slots = appointmentService.getAvailableSlots(barberProfileId, date, 30);
+        return slots.getSlots().get(0).getStartTime();
+    }
+}
@@ -0,0 +1,145 @@
+package com.barber.common.infrastructure.readmodel;
+
+import com.barber.common.domain.event.BarberProfileChanged;
+import com.barber.common.domain.valueobject.Address;
+import com.barber.common.infrastructure.event.BroadcastDomainEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A single-barber refresh moves the barber within the published lists and grid cells instead of
+ * rebuilding them. The result must match what a full rebuild publishes.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.com.barber=INFO"})
+@ActiveProfiles("dev")
+class BarberReadModelTest {
+
+    @Autowired
+    private BarberReadModel readModel;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long barberProfileId;
+    private Map<String, Object> original;
+
+    @BeforeEach
+    void findBarber() {
+        barberProfileId = jdbcTemplate.queryForObject(
+            "SELECT b.id FROM barber_profiles b JOIN users u ON u.id = b.user_id WHERE u.email = 'mustafa@barber.com'",
+            Long.class);
+        original = jdbcTemplate.queryForMap(
+            "SELECT status, ranking_score, city, latitude, longitude FROM barber_profiles WHERE id = ?", barberProfileId);
+        readModel.rebuild();
+    }
+
+    @AfterEach
+    void restore() {
+        jdbcTemplate.update(
+            "UPDATE barber_profiles SET status = ?, ranking_score = ?, city = ?, latitude = ?, longitude = ? WHERE id = ?",
+            original.get("status"), original.get("ranking_score"), original.get("city"),
+            original.get("latitude"), original.get("longitude"), barberProfileId);
+        broadcastChange();
+        readModel.rebuild();
+    }
+
+    @Test
+    void rankingChangesMoveTheBarberAsARebuildWould() {
+        String city = (String) original.get("city");
+
+        jdbcTemplate.update("UPDATE barber_profiles SET ranking_score = 1000 WHERE id = ?", barberProfileId);
+        broadcastChange();
+        assertThat(listing(null).get(0).id()).isEqualTo(barberProfileId);
+        assertThat(listing(city).get(0).id()).isEqualTo(barberProfileId);
+
+        jdbcTemplate.update("UPDATE barber_profiles SET ranking_score = -1 WHERE id = ?", barberProfileId);
+        broadcastChange();
+        assertThat(listing(null).get(listing(null).size() - 1).id()).isEqualTo(barberProfileId);
+        assertMatchesRebuild(city);
+    }
+
+    @Test
+    void barberMovedToAnotherCityLeavesItsOldCityListing() {
+        String city = (String) original.get("city");
+
+        jdbcTemplate.update("UPDATE barber_profiles SET city = 'Yeni Şehir' WHERE id = ?", barberProfileId);
+        broadcastChange();
+
+        assertThat(listing(city)).extracting(BarberSummary::id).doesNotContain(barberProfileId);
+        assertThat(listing("Yeni Şehir")).extracting(BarberSummary::id).containsExactly(barberProfileId);
+        assertMatchesRebuild(city, "Yeni Şehir");
+    }
+
+    @Test
+    void barberMovedOnTheMapIsFoundInItsNewCell() {
+        Address.Coordinates far = new Address.Coordinates(10.5, 20.5);
+
+        jdbcTemplate.update("UPDATE barber_profiles SET latitude = ?, longitude = ? WHERE id = ?",
+            far.getLatitude(), far.getLongitude(), barberProfileId);
+        broadcastChange();
+
+        assertThat(readModel.findNearby(far, 1.0, 10))
+            .extracting(nearby -> nearby.barber().id())
+            .containsExactly(barberProfileId);
+        if (original.get("latitude") != null) {
+            Address.Coordinates before = new Address.Coordinates(
+                ((Number) original.get("latitude")).doubleValue(), ((Number) original.get("longitude")).doubleValue());
+            assertThat(readModel.findNearby(before, 1.0, 100))
+                .extracting(nearby -> nearby.barber().id())
+                .doesNotContain(barberProfileId);
+        }
+    }
+
+    @Test
+    void barberNoLongerApprovedIsDroppedEverywhere() {
+        int size = readModel.size();
+
+        jdbcTemplate.update("UPDATE barber_profiles SET status = 'PENDING' WHERE id = ?", barberProfileId);
+        broadcastChange();
+
+        assertThat(readModel.size()).isEqualTo(size - 1);
+        assertThat(listing(null)).extracting(BarberSummary::id).doesNotContain(barberProfileId);
+        assertThat(listing((String) original.get("city"))).extracting(BarberSummary::id).doesNotContain(barberProfileId);
+
+        jdbcTemplate.update("UPDATE barber_profiles SET status = 'APPROVED' WHERE id = ?", barberProfileId);
+        broadcastChange();
+        assertThat(readModel.size()).isEqualTo(size);
+        assertMatchesRebuild((String) original.get("city"));
+    }
+
+    // ==================== HELPERS ====================
+
+    private void broadcastChange() {
+        eventPublisher.publishEvent(new BroadcastDomainEvent<>(BarberProfileChanged.now(barberProfileId)));
+    }
+
+    private List<BarberSummary> listing(String city) {
+        return readModel.findApproved(city, null, Pageable.unpaged()).getContent();
+    }
+
+    private void assertMatchesRebuild(String... cities) {
+        List<BarberSummary> incremental = listing(null);
+        List<List<BarberSummary>> incrementalByCity = Arrays.stream(cities).map(this::listing).toList();
+
+        readModel.rebuild();
+
+        assertThat(incremental).isEqualTo(listing(null));
+        assertThat(incrementalByCity).isEqualTo(Arrays.stream(cities).map(this::listing).toList());
+    }
+}
@@ -0,0 +1,218 @@
+package com.barber.domain.service;
+
+import com.barber.common.domain.valueobject.ScheduledTimeSlot;
+import com.barber.entity.BarberProfile;
+import com.barber.repository.BarberProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The EXISTS overlap check and the batch check against the development (H2) database, compared
+ * with {@link ScheduledTimeSlot#overlapsWith} on boundary cases and on randomized intervals.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.com.barber=INFO"})
+@ActiveProfiles("dev")
+class AppointmentOverlapTest {
+
+    private static final AtomicLong IMPORTED_IDS = new AtomicLong(950_000);
+    private static final AtomicLong NEXT_DAY = new AtomicLong(400);
+
+    @Autowired
+    private AppointmentAvailabilityService availabilityService;
+
+    @Autowired
+    private BarberProfileRepository barberProfileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long barberProfileId;
+    private Long serviceId;
+    private Long customerId;
+
+    @BeforeEach
+    void findBarber() {
+        barberProfileId = jdbcTemplate.queryForObject(
+            "SELECT b.id FROM barber_profiles b JOIN users u ON u.id = b.user_id WHERE u.email = 'mustafa@barber.com'",
+            Long.class);
+        serviceId = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM services WHERE barber_profile_id = ?", Long.class, barberProfileId);
+        customerId = jdbcTemplate.queryForObject(
+            "SELECT id FROM users WHERE email = 'ahmet@test.com'", Long.class);
+    }
+
+    @Test
+    void touchingRangesDoNotOverlap() {
+        LocalDate date = nextDate();
+        insert(date, LocalTime.of(10, 0), LocalTime.of(11, 0), "CONFIRMED");
+
+        assertThat(conflicts(date, LocalTime.of(9, 0), LocalTime.of(10, 0))).isFalse();
+        assertThat(conflicts(date, LocalTime.of(11, 0), LocalTime.of(12, 0))).isFalse();
+        assertThat(conflicts(date, LocalTime.of(9, 0), LocalTime.of(10, 1))).isTrue();
+        assertThat(conflicts(date, LocalTime.of(10, 59), LocalTime.of(12, 0))).isTrue();
+    }
+
+    @Test
+    void containingContainedAndIdenticalRangesOverlap() {
+        LocalDate date = nextDate();
+        insert(date, LocalTime.of(10, 0), LocalTime.of(11, 0), "PENDING");
+
+        assertThat(conflicts(date, LocalTime.of(10, 0), LocalTime.of(11, 0))).isTrue();
+        assertThat(conflicts(date, LocalTime.of(9, 0), LocalTime.of(12, 0))).isTrue();
+        assertThat(conflicts(date, LocalTime.of(10, 15), LocalTime.of(10, 16))).isTrue();
+    }
+
+    @Test
+    void inactiveAppointmentsAndOtherDatesDoNotConflict() {
+        LocalDate date = nextDate();
+        insert(date, LocalTime.of(10, 0), LocalTime.of(11, 0), "CANCELLED");
+        insert(date, LocalTime.of(10, 0), LocalTime.of(11, 0), "COMPLETED");
+        insert(date.plusDays(1), LocalTime.of(10, 0), LocalTime.of(11, 0), "CONFIRMED");
+
+        assertThat(conflicts(date, LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+    }
+
+    @Test
+    void rangesAtTheEdgesOfTheDay() {
+        LocalDate date = nextDate();
+        insert(date, LocalTime.of(23, 30), LocalTime.of(23, 59), "CONFIRMED");
+        insert(date, LocalTime.MIDNIGHT, LocalTime.of(0, 30), "CONFIRMED");
+
+        assertThat(conflicts(date, LocalTime.of(23, 58), LocalTime.of(23, 59))).isTrue();
+        assertThat(conflicts(date, LocalTime.of(23, 0), LocalTime.of(23, 30))).isFalse();
+        assertThat(conflicts(date, LocalTime.MIDNIGHT, LocalTime.of(0, 1))).isTrue();
+        assertThat(conflicts(date, LocalTime.of(0, 30), LocalTime.of(1, 0))).isFalse();
+        // Neither booking wraps, so the next day is free at midnight
+        assertThat(conflicts(date.plusDays(1), LocalTime.MIDNIGHT, LocalTime.of(0, 30))).isFalse();
+    }
+
+    @Test
+    void emptyAndMidnightWrappingRangesAreRejected() {
+        // A Monday, when the seeded barber is open from the morning on
+        LocalDate date = LocalDate.now().plusYears(2).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+
+        assertThatThrownBy(() -> conflicts(date, LocalTime.of(10, 0), LocalTime.of(10, 0)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> conflicts(date, LocalTime.of(23, 30), LocalTime.MIDNIGHT))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        // Ends "before" closing time, so only the range check keeps the wrapping slot out
+        assertThat(available(date, LocalTime.of(10, 0), LocalTime.of(10, 30))).isTrue();
+        assertThat(available(date, LocalTime.of(10, 0), LocalTime.of(10, 0))).isFalse();
+        assertThat(available(date, LocalTime.of(23, 30), LocalTime.MIDNIGHT)).isFalse();
+    }
+
+    @Test
+    void matchesScheduledTimeSlotOnRandomIntervals() {
+        Random random = new Random(24);
+        List<ScheduledTimeSlot> candidates = new ArrayList<>();
+        List<Boolean> expectedConflicts = new ArrayList<>();
+        for (int day = 0; day < 20; day++) {
+            LocalDate date = nextDate();
+
+            // Active bookings never overlap each other (the database guard rejects that); inactive ones may
+            List<ScheduledTimeSlot> active = new ArrayList<>();
+            int minute = random.nextInt(60);
+            while (true) {
+                int duration = 1 + random.nextInt(90);
+                if (minute + duration >= 24 * 60) {
+                    break;
+                }
+                ScheduledTimeSlot slot = slot(date, minute, minute + duration);
+                if (random.nextInt(4) == 0) {
+                    insert(date, slot.getStartTime(), slot.getEndTime(), random.nextBoolean() ? "CANCELLED" : "COMPLETED");
+                } else {
+                    insert(date, slot.getStartTime(), slot.getEndTime(), random.nextBoolean() ? "PENDING" : "CONFIRMED");
+                    active.add(slot);
+                }
+                minute += duration + random.nextInt(60);
+            }
+
+            for (int i = 0; i < 100; i++) {
+                int start = random.nextInt(24 * 60 - 1);
+                int end = start + 1 + random.nextInt(Math.min(120, 24 * 60 - start - 1));
+                ScheduledTimeSlot candidate = slot(date, start, end);
+
+                boolean expected = active.stream().anyMatch(candidate::overlapsWith);
+                assertThat(conflicts(date, candidate.getStartTime(), candidate.getEndTime()))
+                    .as("%s %s-%s", date, candidate.getStartTime(), candidate.getEndTime())
+                    .isEqualTo(expected);
+                candidates.add(candidate);
+                expectedConflicts.add(expected);
+            }
+        }
+
+        // The batch check answers all candidates of all days with one query
+        assertThat(availabilityService.hasConflictingAppointments(barberProfileId, candidates))
+            .containsExactlyElementsOf(expectedConflicts);
+    }
+
+    @Test
+    void batchCheckKeepsDatesApart() {
+        LocalDate date = nextDate();
+        insert(date, LocalTime.of(10, 0), LocalTime.of(11, 0), "CONFIRMED");
+        insert(date.plusDays(1), LocalTime.of(14, 0), LocalTime.of(15, 0), "CONFIRMED");
+
+        assertThat(availabilityService.hasConflictingAppointments(barberProfileId, List.of(
+            new ScheduledTimeSlot(date, LocalTime.of(10, 30), LocalTime.of(11, 30)),
+            new ScheduledTimeSlot(date, LocalTime.of(14, 0), LocalTime.of(15, 0)),
+            new ScheduledTimeSlot(date.plusDays(1), LocalTime.of(10, 30), LocalTime.of(11, 30)),
+            new ScheduledTimeSlot(date.plusDays(1), LocalTime.of(14, 59), LocalTime.of(15, 30)),
+            new ScheduledTimeSlot(date.plusDays(1), LocalTime.of(15, 0), LocalTime.of(15, 30))
+        ))).containsExactly(true, false, false, true, false);
+        assertThat(availabilityService.hasConflictingAppointments(barberProfileId, List.of())).isEmpty();
+    }
+
+    // ==================== HELPERS ====================
+
+    private boolean conflicts(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return availabilityService.hasConflictingAppointments(barberProfileId, date, startTime, endTime);
+    }
+
+    private boolean available(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            BarberProfile barber = barberProfileRepository.findById(barberProfileId).orElseThrow();
+            return availabilityService.isTimeSlotAvailable(barber, date, startTime, endTime);
+        }));
+    }
+
+    private void insert(LocalDate date, LocalTime startTime, LocalTime endTime, String status) {
+        jdbcTemplate.update(
+            "INSERT INTO appointments (id, customer_id, barber_profile_id, service_id, appointment_date, " +
+            "start_time, end_time, status, total_price, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 100, CURRENT_TIMESTAMP)",
+            IMPORTED_IDS.incrementAndGet(), customerId, barberProfileId, serviceId, date, startTime, endTime, status);
+    }
+
+    private static ScheduledTimeSlot slot(LocalDate date, int startMinute, int endMinute) {
+        return new ScheduledTimeSlot(date,
+            LocalTime.of(startMinute / 60, startMinute % 60), LocalTime.of(endMinute / 60, endMinute % 60));
+    }
+
+    /**
+     * A date far enough ahead that other tests never book it; two days apart so bookings never wrap into it
+     */
+    private static LocalDate nextDate() {
+        return LocalDate.now().plusDays(NEXT_DAY.getAndAdd(2));
+    }
+}
@@ -0,0 +1,162 @@
+package com.barber.domain.service;
+
+import com.barber.common.domain.event.ReviewSubmitted;
+import com.barber.common.domain.event.ReviewVisibilityChanged;
+import com.barber.common.domain.valueobject.Rating;
+import com.barber.common.infrastructure.rating.RatingReconciliationJob;
+import com.barber.common.infrastructure.rating.RatingUpdateBatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Review events are delivered at least once, and the instance holding a barber's pending update
+ * can stop before flushing it. The totals must count every review exactly once either way.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.com.barber=INFO"})
+@ActiveProfiles("dev")
+class RatingUpdateIdempotencyTest {
+
+    private static final AtomicLong IDS = new AtomicLong(990_000);
+
+    @Autowired
+    private RatingUpdateBatcher ratingUpdateBatcher;
+
+    @Autowired
+    private RatingReconciliationJob reconciliationJob;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long barberProfileId;
+    private Long serviceId;
+    private Long customerId;
+
+    @BeforeEach
+    void findBarber() {
+        barberProfileId = jdbcTemplate.queryForObject(
+            "SELECT b.id FROM barber_profiles b JOIN users u ON u.id = b.user_id WHERE u.email = 'mustafa@barber.com'",
+            Long.class);
+        serviceId = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM services WHERE barber_profile_id = ?", Long.class, barberProfileId);
+        customerId = jdbcTemplate.queryForObject(
+            "SELECT id FROM users WHERE email = 'ahmet@test.com'", Long.class);
+        ratingUpdateBatcher.flushAll();
+    }
+
+    @Test
+    void redeliveredEventsAreCountedOnce() {
+        Totals before = totals();
+        Long reviewId = insertReview(4);
+
+        ReviewSubmitted event = ReviewSubmitted.now(reviewId, reviewId, customerId, barberProfileId, Rating.of(4));
+        eventPublisher.publishEvent(event);
+        ratingUpdateBatcher.flush();
+        eventPublisher.publishEvent(event);
+        eventPublisher.publishEvent(event);
+        ratingUpdateBatcher.flush();
+
+        assertThat(totals()).isEqualTo(before.plus(4, 1));
+    }
+
+    @Test
+    void hiddenAndReshownReviewsFollowTheirVisibility() {
+        Totals before = totals();
+        Long reviewId = insertReview(5);
+        eventPublisher.publishEvent(ReviewSubmitted.now(reviewId, reviewId, customerId, barberProfileId, Rating.of(5)));
+        ratingUpdateBatcher.flush();
+
+        setVisible(reviewId, false);
+        ReviewVisibilityChanged hidden = ReviewVisibilityChanged.now(reviewId, barberProfileId, 5, LocalDateTime.now(), false);
+        eventPublisher.publishEvent(hidden);
+        eventPublisher.publishEvent(hidden);
+        ratingUpdateBatcher.flush();
+        assertThat(totals()).isEqualTo(before);
+
+        // A stale hide redelivered after the review was shown again changes nothing on its own
+        setVisible(reviewId, true);
+        eventPublisher.publishEvent(hidden);
+        eventPublisher.publishEvent(ReviewVisibilityChanged.now(reviewId, barberProfileId, 5, LocalDateTime.now(), true));
+        ratingUpdateBatcher.flush();
+        ratingUpdateBatcher.flush();
+        assertThat(totals()).isEqualTo(before.plus(5, 1));
+    }
+
+    @Test
+    void reviewsWhoseUpdateWasLostAreAppliedBySweep() {
+        Totals before = totals();
+        // Delivered to an instance that stopped before flushing: no event reaches this one
+        insertReview(3);
+        insertReview(2);
+        assertThat(totals()).isEqualTo(before);
+
+        ratingUpdateBatcher.flushAll();
+
+        assertThat(totals()).isEqualTo(before.plus(5, 2));
+    }
+
+    @Test
+    void reconciliationRestoresTotalsOfCountedReviewsOnly() {
+        Long reviewId = insertReview(4);
+        eventPublisher.publishEvent(ReviewSubmitted.now(reviewId, reviewId, customerId, barberProfileId, Rating.of(4)));
+        ratingUpdateBatcher.flush();
+        Totals expected = totals();
+
+        jdbcTemplate.update("UPDATE barber_profiles SET rating_sum = rating_sum + 7, total_reviews = total_reviews + 3 " +
+            "WHERE id = ?", barberProfileId);
+        // A review whose event has not arrived yet is applied by the job before it compares
+        insertReview(1);
+        reconciliationJob.reconcile();
+
+        assertThat(totals()).isEqualTo(expected.plus(1, 1));
+    }
+
+    // ==================== HELPERS ====================
+
+    private record Totals(long ratingSum, int totalReviews) {
+        Totals plus(long rating, int reviews) {
+            return new Totals(ratingSum + rating, totalReviews + reviews);
+        }
+    }
+
+    private Totals totals() {
+        return jdbcTemplate.queryForObject("SELECT rating_sum, total_reviews FROM barber_profiles WHERE id = ?",
+            (rs, row) -> new Totals(rs.getLong(1), rs.getInt(2)), barberProfileId);
+    }
+
+    /**
+     * A committed, visible review that is not counted yet, on its own completed appointment
+     */
+    private Long insertReview(int rating) {
+        long id = IDS.incrementAndGet();
+        LocalTime start = LocalTime.of(8, 0).plusMinutes(id % 600);
+        jdbcTemplate.update(
+            "INSERT INTO appointments (id, customer_id, barber_profile_id, service_id, appointment_date, " +
+            "start_time, end_time, status, total_price, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 'COMPLETED', 100, CURRENT_TIMESTAMP)",
+            id, customerId, barberProfileId, serviceId, LocalDate.now().minusYears(1), start, start.plusMinutes(1));
+        jdbcTemplate.update(
+            "INSERT INTO reviews (id, appointment_id, customer_id, barber_profile_id, rating, is_visible, " +
+            "rating_counted, created_at) VALUES (?, ?, ?, ?, ?, TRUE, FALSE, CURRENT_TIMESTAMP)",
+            id, id, customerId, barberProfileId, rating);
+        return id;
+    }
+
+    private void setVisible(Long reviewId, boolean visible) {
+        jdbcTemplate.update("UPDATE reviews SET is_visible = ? WHERE id = ?", visible, reviewId);
+    }
+}
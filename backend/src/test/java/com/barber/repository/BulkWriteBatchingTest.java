@@ -0,0 +1,188 @@
+package com.barber.repository;
+
+import com.barber.entity.Appointment;
+import com.barber.entity.AppointmentStatus;
+import com.barber.entity.BarberProfile;
+import com.barber.entity.Role;
+import com.barber.entity.Service;
+import com.barber.entity.User;
+import com.barber.entity.WorkingHours;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trips of bulk writes with JDBC batching on (the configured batch size) and off (batch size 1),
+ * counted as JDBC statements prepared by Hibernate: one per batch, or one per row without batching.
+ * Each test asserts the reduction factor batching is expected to give.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.com.barber=INFO",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@ActiveProfiles("dev")
+@Slf4j
+class BulkWriteBatchingTest {
+
+    private static final int SERVICES = 20;
+    private static final int APPOINTMENTS = 120;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void workingHoursWeekIsInsertedInOneBatch() {
+        long unbatched = statementsFor(false, this::insertWeek);
+        long batched = statementsFor(true, this::insertWeek);
+
+        log.info("Inserting a working-hours week: {} statements unbatched, {} batched", unbatched, batched);
+        assertThat(unbatched).isGreaterThanOrEqualTo(DayOfWeek.values().length);
+        // Insert batch plus at most one sequence fetch
+        assertThat(batched).isLessThanOrEqualTo(2);
+        assertThat(unbatched).isGreaterThanOrEqualTo(4 * batched);
+    }
+
+    @Test
+    void servicesAreInsertedInBatches() {
+        long unbatched = statementsFor(false, this::insertServices);
+        long batched = statementsFor(true, this::insertServices);
+
+        log.info("Inserting {} services: {} statements unbatched, {} batched", SERVICES, unbatched, batched);
+        assertThat(unbatched).isGreaterThanOrEqualTo(SERVICES);
+        assertThat(batched).isLessThanOrEqualTo(2);
+        assertThat(unbatched).isGreaterThanOrEqualTo(10 * batched);
+    }
+
+    @Test
+    void appointmentsAreInsertedInBatches() {
+        long unbatched = statementsFor(false, this::insertAppointments);
+        long batched = statementsFor(true, this::insertAppointments);
+
+        log.info("Inserting {} appointments: {} statements unbatched, {} batched", APPOINTMENTS, unbatched, batched);
+        assertThat(unbatched).isGreaterThanOrEqualTo(APPOINTMENTS);
+        // 120 rows at batch size 50 are three batches, plus the service insert and sequence fetches
+        assertThat(batched).isLessThanOrEqualTo(6);
+        assertThat(unbatched).isGreaterThanOrEqualTo(20 * batched);
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Statements prepared while {@code work} runs against a fresh barber and flushes, in its own transaction
+     */
+    private long statementsFor(boolean batching, BiConsumer<EntityManager, BarberProfile> work) {
+        Long barberProfileId = transaction.execute(status -> createBarber().getId());
+
+        return transaction.execute(status -> {
+            if (!batching) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            }
+            BarberProfile barber = entityManager.find(BarberProfile.class, barberProfileId);
+            statistics.clear();
+            work.accept(entityManager, barber);
+            entityManager.flush();
+            return statistics.getPrepareStatementCount();
+        });
+    }
+
+    private void insertWeek(EntityManager em, BarberProfile barber) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            em.persist(WorkingHours.builder()
+                .barberProfile(barber)
+                .dayOfWeek(day)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(19, 0))
+                .build());
+        }
+    }
+
+    private void insertServices(EntityManager em, BarberProfile barber) {
+        for (int i = 0; i < SERVICES; i++) {
+            em.persist(service(barber, "Hizmet " + i));
+        }
+    }
+
+    private void insertAppointments(EntityManager em, BarberProfile barber) {
+        Service service = service(barber, "Saç Kesimi");
+        em.persist(service);
+        User customer = barber.getUser();
+        LocalDate firstDay = LocalDate.now().plusDays(30);
+        for (int i = 0; i < APPOINTMENTS; i++) {
+            LocalTime start = LocalTime.of(9, 0).plusMinutes(30L * (i % 20));
+            em.persist(Appointment.builder()
+                .customer(customer)
+                .barberProfile(barber)
+                .service(service)
+                .appointmentDate(firstDay.plusDays(i / 20))
+                .startTime(start)
+                .endTime(start.plusMinutes(30))
+                .status(AppointmentStatus.CONFIRMED)
+                .totalPrice(BigDecimal.valueOf(100))
+                .build());
+        }
+    }
+
+    private Service service(BarberProfile barber, String name) {
+        return Service.builder()
+            .barberProfile(barber)
+            .name(name)
+            .durationMinutes(30)
+            .price(BigDecimal.valueOf(100))
+            .build();
+    }
+
+    private BarberProfile createBarber() {
+        User user = User.builder()
+            .name("Batch Test")
+            .email("batch-" + UUID.randomUUID() + "@test.com")
+            .passwordHash("not-used")
+            .role(Role.BARBER)
+            .build();
+        entityManager.persist(user);
+        BarberProfile profile = BarberProfile.builder()
+            .user(user)
+            .shopName("Batch Berber")
+            .address("Test Sokak 1")
+            .city("İstanbul")
+            .district("Kadıköy")
+            .build();
+        entityManager.persist(profile);
+        return profile;
+    }
+}
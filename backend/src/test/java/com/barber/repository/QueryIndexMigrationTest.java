@@ -0,0 +1,276 @@
+package com.barber.repository;
+
+import com.barber.common.infrastructure.event.OutboxEvent;
+import com.barber.common.infrastructure.event.OutboxEventRepository;
+import com.barber.domain.service.AppointmentAvailabilityService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migrates an empty H2 database with the Flyway scripts, loads a few thousand rows and checks
+ * with EXPLAIN that every hot repository query is answered from its index instead of a table scan.
+ *
+ * The statements explained are the ones Hibernate generates: each query is run through its
+ * repository method, the SQL is captured with a {@link StatementInspector}, and EXPLAIN is run
+ * on it with the same parameter values bound in order. Where H2's automatic foreign-key index
+ * leads with the same column as the composite index, either one is accepted as long as the plan
+ * seeks on that column.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:query_index_test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.barber=INFO",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("dev")
+class QueryIndexMigrationTest {
+
+    // Generated rows use ids far above the seeded development data
+    private static final long BASE = 200_000;
+    private static final long BARBER = BASE + 7;
+    private static final long CUSTOMER = BASE + 60;
+    private static final LocalDate DATE = LocalDate.of(2026, 2, 1);
+    private static final List<String> ACTIVE = List.of("PENDING", "CONFIRMED");
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+    private static boolean loaded;
+
+    @TestConfiguration
+    static class CaptureSql {
+        @Bean
+        HibernatePropertiesCustomizer captureStatements() {
+            StatementInspector inspector = sql -> {
+                List<String> statements = CAPTURED.get();
+                if (statements != null) {
+                    statements.add(sql);
+                }
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private WorkingHoursRepository workingHoursRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void load() {
+        if (loaded) {
+            return;
+        }
+        jdbcTemplate.execute("INSERT INTO users (id, name, email, password_hash, role, created_at) " +
+                "SELECT " + BASE + " + X, 'User ' || X, 'index-user' || X || '@test.com', 'hash', " +
+                "CASE WHEN X <= 50 THEN 'BARBER' ELSE 'CUSTOMER' END, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, 550)");
+        jdbcTemplate.execute("INSERT INTO barber_profiles (id, user_id, shop_name, address, city, district, " +
+                "status, average_rating, total_reviews, created_at, ranking_score) " +
+                "SELECT " + BASE + " + X, " + BASE + " + X, 'Shop ' || X, 'Address', 'Istanbul', 'Kadikoy', " +
+                "CASE WHEN MOD(X, 5) = 0 THEN 'PENDING' ELSE 'APPROVED' END, 4.0, 10, " +
+                "DATEADD('DAY', -X, CURRENT_TIMESTAMP), X / 10.0 FROM SYSTEM_RANGE(1, 50)");
+        jdbcTemplate.execute("INSERT INTO services (id, barber_profile_id, name, duration_minutes, price, is_active) " +
+                "SELECT " + BASE + " + X, " + BASE + " + MOD(X, 50) + 1, 'Service ' || X, 30, 100, MOD(X, 4) <> 0 " +
+                "FROM SYSTEM_RANGE(1, 200)");
+        jdbcTemplate.execute("INSERT INTO working_hours (id, barber_profile_id, day_of_week, start_time, end_time, is_closed) " +
+                "SELECT " + BASE + " + X, " + BASE + " + (X - 1) / 7 + 1, " +
+                "ARRAY['MONDAY','TUESDAY','WEDNESDAY','THURSDAY','FRIDAY','SATURDAY','SUNDAY'][MOD(X - 1, 7) + 1], " +
+                "TIME '09:00', TIME '18:00', FALSE FROM SYSTEM_RANGE(1, 350)");
+        jdbcTemplate.execute("INSERT INTO appointments (id, customer_id, barber_profile_id, service_id, " +
+                "appointment_date, start_time, end_time, status, total_price, created_at) " +
+                "SELECT " + BASE + " + X, " + BASE + " + 51 + MOD(X, 500), " + BASE + " + MOD(X, 50) + 1, " +
+                BASE + " + MOD(X, 50) + 1, " +
+                "DATEADD('DAY', MOD(X / 50, 120), DATE '2026-01-01'), " +
+                "DATEADD('MINUTE', 30 * MOD(X / 6000, 16), TIME '09:00'), " +
+                "DATEADD('MINUTE', 30 * MOD(X / 6000, 16) + 30, TIME '09:00'), " +
+                "CASE WHEN MOD(X, 10) = 0 THEN 'CANCELLED' ELSE 'CONFIRMED' END, 100, CURRENT_TIMESTAMP " +
+                "FROM SYSTEM_RANGE(1, 20000)");
+        jdbcTemplate.execute("INSERT INTO reviews (id, appointment_id, customer_id, barber_profile_id, rating, " +
+                "is_visible, created_at) " +
+                "SELECT " + BASE + " + X, " + BASE + " + X, " + BASE + " + 51 + MOD(X, 500), " +
+                BASE + " + MOD(X, 50) + 1, MOD(X, 5) + 1, MOD(X, 20) <> 0, " +
+                "DATEADD('MINUTE', -X, CURRENT_TIMESTAMP) FROM SYSTEM_RANGE(1, 10000)");
+        jdbcTemplate.execute("INSERT INTO outbox_events (id, event_type, payload, status, attempts, " +
+                "next_attempt_at, created_at) " +
+                "SELECT " + BASE + " + X, 'ReviewCreated', '{}', " +
+                "CASE WHEN MOD(X, 50) = 0 THEN 'PENDING' ELSE 'PUBLISHED' END, " +
+                "0, DATEADD('DAY', 1, CURRENT_TIMESTAMP), DATEADD('MINUTE', -X, CURRENT_TIMESTAMP) " +
+                "FROM SYSTEM_RANGE(1, 5000)");
+        jdbcTemplate.execute("ANALYZE");
+        loaded = true;
+    }
+
+    @Test
+    void overlapExistsCheckUsesBarberDateIndex() throws SQLException {
+        String sql = capture(() -> appointmentRepository.existsOverlappingAppointment(
+                BARBER, DATE, LocalTime.of(10, 0), LocalTime.of(10, 30)));
+        assertThat(explain(sql, BARBER, DATE, LocalTime.of(10, 30), LocalTime.of(10, 0)))
+                .contains("IDX_APPOINTMENTS_BARBER_DATE_TIME");
+    }
+
+    @Test
+    void batchOverlapCheckUsesBarberDateIndex() throws SQLException {
+        LocalDate nextDay = DATE.plusDays(1);
+        String sql = capture(() -> appointmentRepository.findOverlappingIntervals(
+                BARBER, List.of(DATE, nextDay), LocalTime.of(9, 0), LocalTime.of(12, 0)));
+        assertThat(explain(sql, BARBER, DATE, nextDay, LocalTime.of(12, 0), LocalTime.of(9, 0)))
+                .contains("IDX_APPOINTMENTS_BARBER_DATE_TIME");
+    }
+
+    @Test
+    void dayAppointmentsOfBarberUseBarberDateIndex() throws SQLException {
+        String sql = capture(() -> appointmentRepository.findByBarberProfileIdAndAppointmentDateAndStatusIn(
+                BARBER, DATE, AppointmentAvailabilityService.ACTIVE_STATUSES));
+        assertThat(explain(sql, BARBER, DATE, ACTIVE.get(0), ACTIVE.get(1)))
+                .contains("IDX_APPOINTMENTS_BARBER_DATE_TIME");
+    }
+
+    @Test
+    void calendarRangeUsesBarberDateIndex() throws SQLException {
+        LocalDate to = DATE.plusDays(27);
+        String sql = capture(() -> appointmentRepository.findByBarberProfileIdAndAppointmentDateBetweenAndStatusIn(
+                BARBER, DATE, to, AppointmentAvailabilityService.ACTIVE_STATUSES));
+        assertThat(explain(sql, BARBER, DATE, to, ACTIVE.get(0), ACTIVE.get(1)))
+                .contains("IDX_APPOINTMENTS_BARBER_DATE_TIME");
+    }
+
+    @Test
+    void barberHistoryPageSeeksBarberDateIndex() throws SQLException {
+        LocalDate date = LocalDate.of(2026, 3, 1);
+        LocalTime time = LocalTime.of(12, 0);
+        String sql = capture(() -> appointmentRepository.findBarberHistoryAfter(
+                BARBER, date, time, BASE + 10_000, PageRequest.of(0, 20)));
+        assertThat(explain(sql, BARBER, date, date, time, time, BASE + 10_000, 0, 20))
+                .containsAnyOf("IDX_APPOINTMENTS_BARBER_DATE_TIME", "FK_APPOINTMENTS_BARBER_PROFILE")
+                .contains("BARBER_PROFILE_ID = ?1");
+    }
+
+    @Test
+    void customerHistoryPageSeeksCustomerDateIndex() throws SQLException {
+        LocalDate date = LocalDate.of(2026, 3, 1);
+        LocalTime time = LocalTime.of(12, 0);
+        String sql = capture(() -> appointmentRepository.findCustomerHistoryAfter(
+                CUSTOMER, date, time, BASE + 10_000, PageRequest.of(0, 20)));
+        assertThat(explain(sql, CUSTOMER, date, date, time, time, BASE + 10_000, 0, 20))
+                .containsAnyOf("IDX_APPOINTMENTS_CUSTOMER_DATE_TIME", "FK_APPOINTMENTS_CUSTOMER")
+                .contains("CUSTOMER_ID = ?1");
+    }
+
+    @Test
+    void reviewFeedUsesBarberVisibleCreatedIndex() throws SQLException {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(100);
+        String sql = capture(() -> reviewRepository.findVisibleReviewsAfter(
+                BARBER, createdAt, BASE + 100, PageRequest.of(0, 20)));
+        assertThat(explain(sql, BARBER, createdAt, createdAt, BASE + 100, 0, 20))
+                .contains("IDX_REVIEWS_BARBER_VISIBLE_CREATED");
+    }
+
+    @Test
+    void activeServicesUseBarberActiveIndex() throws SQLException {
+        String sql = capture(() -> serviceRepository.findByBarberProfileIdAndIsActiveTrue(BARBER));
+        assertThat(explain(sql, BARBER)).contains("IDX_SERVICES_BARBER_ACTIVE");
+    }
+
+    @Test
+    void workingHoursUseBarberDayIndex() throws SQLException {
+        String sql = capture(() -> workingHoursRepository.findByBarberProfileIdOrderByDayOfWeek(BARBER));
+        assertThat(explain(sql, BARBER))
+                .containsAnyOf("IDX_WORKING_HOURS_BARBER_DAY", "FK_WORKING_HOURS_BARBER_PROFILE")
+                .contains("BARBER_PROFILE_ID = ?1");
+    }
+
+    @Test
+    void dueOutboxEventsUseStatusNextAttemptIndex() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        String sql = capture(() -> transactionTemplate.execute(status -> outboxEventRepository.findDueForUpdate(
+                OutboxEvent.Status.PENDING, now, PageRequest.of(0, 100))));
+        assertThat(explain(sql, OutboxEvent.Status.PENDING.name(), now, 0, 100))
+                .contains("IDX_OUTBOX_EVENTS_STATUS_NEXT_ATTEMPT");
+    }
+
+    @Test
+    void outboxBroadcastPollUsesCreatedIndex() throws SQLException {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        String sql = capture(() -> outboxEventRepository.findIdsCreatedSince(since));
+        assertThat(explain(sql, since)).contains("IDX_OUTBOX_EVENTS_CREATED");
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Run a repository call and return the first SQL statement Hibernate generated for it
+     */
+    private static String capture(Runnable query) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            query.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        assertThat(statements).as("statements generated").isNotEmpty();
+        return statements.get(0);
+    }
+
+    private String explain(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            assertThat(statement.getParameterMetaData().getParameterCount())
+                    .as("parameters of %s", sql)
+                    .isEqualTo(parameters.length);
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                String text = plan.getString(1).toUpperCase();
+                assertThat(text).as(text).doesNotContain("TABLESCAN");
+                return text;
+            }
+        }
+    }
+}
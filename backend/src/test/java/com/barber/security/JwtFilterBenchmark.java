@@ -0,0 +1,112 @@
+package com.barber.security;
+
+import com.barber.entity.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token in {@link JwtAuthenticationFilter}.
+ *
+ * - legacyTokenHandling: what the filter did before, rebuilding the HMAC key and verifying the
+ *   token twice (validateToken, then getEmailFromToken); the user lookup it did afterwards is
+ *   left out, so the gap to the current filter is understated
+ * - filterWithoutClaimsCache: the current filter, verifying every token once
+ * - filterWithClaimsCache: the current filter, answering repeated tokens from the claims cache
+ *
+ * Run with: {@code mvn test-compile} and then this class's main method from the IDE, or
+ * {@code java -cp target/test-classes:<test classpath> com.barber.security.JwtFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-256-bits-long-secret-key-1234567890";
+
+    private String token;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtTokenProvider uncached = tokenProvider(0);
+        JwtTokenProvider cached = tokenProvider(10_000);
+        token = cached.generateToken(42L, "ahmet@test.com", Role.CUSTOMER);
+
+        // User status checks are disabled, so no database is involved
+        UserStatusCache userStatusCache = new UserStatusCache(null, false, 60, 10_000);
+        uncachedFilter = new JwtAuthenticationFilter(uncached, null, userStatusCache);
+        cachedFilter = new JwtAuthenticationFilter(cached, null, userStatusCache);
+    }
+
+    @Benchmark
+    public String legacyTokenHandling() {
+        SecretKey validationKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        Jwts.parser().verifyWith(validationKey).build().parseSignedClaims(token);
+
+        SecretKey subjectKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        Claims claims = Jwts.parser().verifyWith(subjectKey).build().parseSignedClaims(token).getPayload();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public Object filterWithoutClaimsCache() throws Exception {
+        return authenticate(uncachedFilter);
+    }
+
+    @Benchmark
+    public Object filterWithClaimsCache() throws Exception {
+        return authenticate(cachedFilter);
+    }
+
+    private Object authenticate(JwtAuthenticationFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/appointments");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    private static JwtTokenProvider tokenProvider(int claimsCacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(provider, "claimsCacheSize", claimsCacheSize);
+        provider.init();
+        return provider;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtFilterBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,76 @@
+package com.barber.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calibrates the bcrypt strength (security.password.bcrypt-strength) to a target latency.
+ *
+ * Measures one password verification, the cost every login pays on the hashing executor,
+ * at each candidate strength on the machine it runs on. The main method then recommends the
+ * highest strength whose verification stays within the target (-Dtarget.ms, default 250).
+ *
+ * Run with: {@code mvn test-compile} and then this class's main method from the IDE, or
+ * {@code java -Dtarget.ms=250 -cp target/test-classes:<test classpath> com.barber.security.PasswordHashingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "TestPass123!";
+
+    @Param({"10", "11", "12", "13", "14"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        double targetMs = Double.parseDouble(System.getProperty("target.ms", "250"));
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+            .include(PasswordHashingBenchmark.class.getSimpleName())
+            .build()).run();
+
+        results.stream()
+            .filter(result -> result.getPrimaryResult().getScore() <= targetMs)
+            .max(Comparator.comparingInt(result -> Integer.parseInt(result.getParams().getParam("strength"))))
+            .ifPresentOrElse(
+                result -> System.out.printf("Recommended security.password.bcrypt-strength: %s (%.1f ms per verification, target %.0f ms)%n",
+                    result.getParams().getParam("strength"), result.getPrimaryResult().getScore(), targetMs),
+                () -> System.out.printf("No measured strength verifies within %.0f ms%n", targetMs));
+    }
+}
@@ -0,0 +1,114 @@
+package com.barber.service;
+
+import com.barber.common.domain.event.BarberProfileChanged;
+import com.barber.common.infrastructure.event.BroadcastDomainEvent;
+import com.barber.dto.BarberDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Radius searches take their candidates from the read model's geo grid and build occupancy from
+ * appointment time ranges only. The results must still reflect the barber's bookings.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.com.barber=INFO"})
+@ActiveProfiles("dev")
+class AvailabilitySearchServiceTest {
+
+    private static final long APPOINTMENT_ID = 980_001L;
+    private static final double LATITUDE = 10.5;
+    private static final double LONGITUDE = 20.5;
+
+    @Autowired
+    private AvailabilitySearchService searchService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long barberProfileId;
+    private Map<String, Object> originalLocation;
+    private LocalDate monday;
+    private LocalTime opening;
+
+    @BeforeEach
+    void placeBarberAlone() {
+        barberProfileId = jdbcTemplate.queryForObject(
+            "SELECT b.id FROM barber_profiles b JOIN users u ON u.id = b.user_id WHERE u.email = 'mustafa@barber.com'",
+            Long.class);
+        originalLocation = jdbcTemplate.queryForMap(
+            "SELECT latitude, longitude FROM barber_profiles WHERE id = ?", barberProfileId);
+        opening = jdbcTemplate.queryForObject(
+            "SELECT start_time FROM working_hours WHERE barber_profile_id = ? AND day_of_week = 'MONDAY'",
+            LocalTime.class, barberProfileId);
+        monday = LocalDate.now().plusWeeks(5).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+
+        // Far from every seeded barber, so a small radius around it matches this barber only
+        jdbcTemplate.update("UPDATE barber_profiles SET latitude = ?, longitude = ? WHERE id = ?",
+            LATITUDE, LONGITUDE, barberProfileId);
+        broadcastChange();
+    }
+
+    @AfterEach
+    void restore() {
+        jdbcTemplate.update("DELETE FROM appointments WHERE id = ?", APPOINTMENT_ID);
+        jdbcTemplate.update("UPDATE barber_profiles SET latitude = ?, longitude = ? WHERE id = ?",
+            originalLocation.get("latitude"), originalLocation.get("longitude"), barberProfileId);
+        broadcastChange();
+    }
+
+    @Test
+    void radiusSearchFindsOnlyBarbersInsideTheRadius() {
+        List<BarberDto.AvailableBarberResponse> results = search(LATITUDE + 0.005, LONGITUDE);
+
+        assertThat(results).extracting(BarberDto.AvailableBarberResponse::getId).containsExactly(barberProfileId);
+        assertThat(results.get(0).getFirstAvailableTime()).isEqualTo(opening);
+        assertThat(results.get(0).getDistanceKm()).isLessThan(1.0);
+
+        assertThat(search(LATITUDE + 0.5, LONGITUDE)).isEmpty();
+    }
+
+    @Test
+    void bookedRangesDelayTheFirstAvailableTime() {
+        Long customerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'ahmet@test.com'", Long.class);
+        Long serviceId = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM services WHERE barber_profile_id = ?", Long.class, barberProfileId);
+        jdbcTemplate.update(
+            "INSERT INTO appointments (id, customer_id, barber_profile_id, service_id, appointment_date, " +
+            "start_time, end_time, status, total_price, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 'CONFIRMED', 100, CURRENT_TIMESTAMP)",
+            APPOINTMENT_ID, customerId, barberProfileId, serviceId, monday, opening, opening.plusMinutes(45));
+
+        List<BarberDto.AvailableBarberResponse> results = search(LATITUDE, LONGITUDE);
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getFirstAvailableTime()).isEqualTo(opening.plusMinutes(45));
+    }
+
+    // ==================== HELPERS ====================
+
+    private void broadcastChange() {
+        eventPublisher.publishEvent(new BroadcastDomainEvent<>(BarberProfileChanged.now(barberProfileId)));
+    }
+
+    private List<BarberDto.AvailableBarberResponse> search(double latitude, double longitude) {
+        return searchService.findFirstAvailable(null, null, latitude, longitude, 2.0,
+            monday, null, null, 30, null);
+    }
+}
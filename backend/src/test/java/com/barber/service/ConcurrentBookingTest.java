@@ -0,0 +1,384 @@
+package com.barber.service;
+
+import com.barber.dto.AppointmentDto;
+import com.barber.entity.BarberProfile;
+import com.barber.entity.BarberStatus;
+import com.barber.entity.Role;
+import com.barber.entity.User;
+import com.barber.entity.WorkingHours;
+import com.barber.exception.BadRequestException;
+import com.barber.exception.TooManyRequestsException;
+import com.barber.repository.BarberProfileRepository;
+import com.barber.repository.ServiceRepository;
+import com.barber.repository.UserRepository;
+import com.barber.repository.WorkingHoursRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent booking load against the development (H2) database: whatever the interleaving,
+ * a barber never ends up with overlapping active appointments. The load test books thousands of
+ * slots at once and asserts a minimum throughput.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "logging.level.com.barber=INFO"})
+@ActiveProfiles("dev")
+@Slf4j
+class ConcurrentBookingTest {
+
+    private static final int THREADS = 32;
+
+    // Load test: 25 barbers x 4 days x 20 slots, each slot requested twice = 4000 simultaneous requests
+    private static final int LOAD_BARBERS = 25;
+    private static final int LOAD_DAYS = 4;
+    private static final int LOAD_SERVICE_MINUTES = 30;
+    private static final int LOAD_CUSTOMERS = 200;
+    private static final double MIN_REQUESTS_PER_SECOND = 30;
+    private static final AtomicLong IMPORTED_IDS = new AtomicLong(900_000);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BarberProfileRepository barberProfileRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private WorkingHoursRepository workingHoursRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long barberProfileId;
+    private Long serviceId;
+    private int serviceDuration;
+
+    @BeforeEach
+    void findBarber() {
+        barberProfileId = jdbcTemplate.queryForObject(
+            "SELECT b.id FROM barber_profiles b JOIN users u ON u.id = b.user_id WHERE u.email = 'mustafa@barber.com'",
+            Long.class);
+        serviceId = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) FROM services WHERE barber_profile_id = ? AND is_active = TRUE", Long.class, barberProfileId);
+        serviceDuration = jdbcTemplate.queryForObject(
+            "SELECT duration_minutes FROM services WHERE id = ?", Integer.class, serviceId);
+    }
+
+    @Test
+    void sameSlotIsBookedExactlyOnce() throws Exception {
+        LocalDate date = weekday(1);
+        List<Long> customers = createCustomers(THREADS * 2);
+
+        List<Callable<Boolean>> bookings = new ArrayList<>();
+        for (Long customerId : customers) {
+            bookings.add(() -> book(customerId, date, LocalTime.of(10, 0)));
+        }
+        List<Boolean> results = runConcurrently(bookings);
+
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(1);
+        assertThat(activeAppointments(date)).isEqualTo(1);
+        assertNoOverlaps();
+    }
+
+    @Test
+    void overlappingStartTimesAreBookedOnce() throws Exception {
+        LocalDate date = weekday(2);
+        List<Long> customers = createCustomers(THREADS);
+
+        // Every request starts inside the first one's range, so they all overlap pairwise
+        List<Callable<Boolean>> bookings = new ArrayList<>();
+        for (int i = 0; i < customers.size(); i++) {
+            Long customerId = customers.get(i);
+            LocalTime start = LocalTime.of(11, 0).plusMinutes(i % Math.max(1, serviceDuration));
+            bookings.add(() -> book(customerId, date, start));
+        }
+        List<Boolean> results = runConcurrently(bookings);
+
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(1);
+        assertNoOverlaps();
+    }
+
+    @Test
+    void databaseGuardRejectsOverlapsWrittenAroundTheService() throws Exception {
+        LocalDate date = weekday(3);
+        Long customerId = createCustomers(1).get(0);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Plain inserts skip the service's locks and checks; only the database guard is left
+        List<Callable<Boolean>> inserts = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            // Within the first insert's 30 minutes, so every pair overlaps
+            LocalTime start = LocalTime.of(14, 0).plusMinutes(i % 30);
+            inserts.add(() -> {
+                try {
+                    transaction.executeWithoutResult(status -> jdbcTemplate.update(
+                        "INSERT INTO appointments (id, customer_id, barber_profile_id, service_id, appointment_date, " +
+                        "start_time, end_time, status, total_price, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, 'CONFIRMED', 100, CURRENT_TIMESTAMP)",
+                        IMPORTED_IDS.incrementAndGet(), customerId, barberProfileId, serviceId, date,
+                        start, start.plusMinutes(30)));
+                    return true;
+                } catch (DataIntegrityViolationException ex) {
+                    return false;
+                }
+            });
+        }
+        List<Boolean> results = runConcurrently(inserts);
+
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(1);
+        assertNoOverlaps();
+    }
+
+    @Test
+    void databaseGuardTreatsRangesAsHalfOpenAndWrapsPastMidnight() {
+        LocalDate date = weekday(4);
+        Long customerId = createCustomers(1).get(0);
+
+        insert(customerId, date, LocalTime.of(23, 0), LocalTime.of(0, 30));
+        // Touching ranges do not overlap
+        insert(customerId, date, LocalTime.of(22, 30), LocalTime.of(23, 0));
+        insert(customerId, date.plusDays(1), LocalTime.of(0, 30), LocalTime.of(1, 0));
+
+        // The range wrapped into the next day
+        assertThat(insertRejected(customerId, date.plusDays(1), LocalTime.of(0, 0), LocalTime.of(0, 15))).isTrue();
+        assertThat(insertRejected(customerId, date, LocalTime.of(23, 59), LocalTime.of(23, 59, 30))).isTrue();
+
+        // Inactive appointments are not guarded
+        jdbcTemplate.update("UPDATE appointments SET status = 'CANCELLED' WHERE barber_profile_id = ? " +
+            "AND appointment_date = ? AND start_time = ?", barberProfileId, date, LocalTime.of(23, 0));
+        insert(customerId, date.plusDays(1), LocalTime.of(0, 0), LocalTime.of(0, 15));
+        assertNoOverlaps();
+    }
+
+    @Test
+    void thousandsOfSimultaneousBookingsAcrossBarbers() throws Exception {
+        List<Long> barbers = createBarbers(LOAD_BARBERS);
+        List<Long> customers = createCustomers(LOAD_CUSTOMERS);
+        int slotsPerDay = 10 * 60 / LOAD_SERVICE_MINUTES;
+
+        // Every slot of every barber day is requested twice, by two different customers
+        List<Callable<Boolean>> bookings = new ArrayList<>();
+        List<Long> latenciesNanos = Collections.synchronizedList(new ArrayList<>());
+        int slots = 0;
+        for (Long barber : barbers) {
+            Long service = jdbcTemplate.queryForObject(
+                "SELECT id FROM services WHERE barber_profile_id = ?", Long.class, barber);
+            for (int day = 0; day < LOAD_DAYS; day++) {
+                LocalDate date = weekday(10 + day);
+                for (int slot = 0; slot < slotsPerDay; slot++) {
+                    LocalTime start = LocalTime.of(9, 0).plusMinutes((long) slot * LOAD_SERVICE_MINUTES);
+                    for (int copy = 0; copy < 2; copy++) {
+                        Long customerId = customers.get((slots * 2 + copy) % customers.size());
+                        bookings.add(() -> {
+                            long startedAt = System.nanoTime();
+                            try {
+                                return book(customerId, barber, service, date, start);
+                            } finally {
+                                latenciesNanos.add(System.nanoTime() - startedAt);
+                            }
+                        });
+                    }
+                    slots++;
+                }
+            }
+        }
+
+        long startedAt = System.nanoTime();
+        List<Boolean> results = runConcurrently(bookings);
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        double throughput = results.size() / seconds;
+
+        List<Long> sorted = latenciesNanos.stream().sorted().toList();
+        log.info("{} simultaneous booking requests for {} slots with {} threads in {} s: {} requests/s, "
+                + "latency p50 {} ms, p95 {} ms, max {} ms",
+            results.size(), slots, THREADS, String.format("%.2f", seconds), String.format("%.0f", throughput),
+            percentileMillis(sorted, 50), percentileMillis(sorted, 95), percentileMillis(sorted, 100));
+
+        assertThat(results).hasSizeGreaterThanOrEqualTo(4000);
+        // Each slot goes to exactly one of its two requests
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(slots);
+        assertNoOverlaps();
+        assertThat(throughput).isGreaterThanOrEqualTo(MIN_REQUESTS_PER_SECOND);
+    }
+
+    // ==================== HELPERS ====================
+
+    private boolean book(Long customerId, LocalDate date, LocalTime start) {
+        return book(customerId, barberProfileId, serviceId, date, start);
+    }
+
+    private boolean book(Long customerId, Long barberId, Long bookedServiceId, LocalDate date, LocalTime start) {
+        AppointmentDto.CreateAppointmentRequest request = new AppointmentDto.CreateAppointmentRequest();
+        request.setBarberProfileId(barberId);
+        request.setServiceId(bookedServiceId);
+        request.setAppointmentDate(date);
+        request.setStartTime(start);
+        try {
+            appointmentService.createAppointment(customerId, request);
+            return true;
+        } catch (BadRequestException | TooManyRequestsException ex) {
+            return false;
+        }
+    }
+
+    private void insert(Long customerId, LocalDate date, LocalTime start, LocalTime end) {
+        jdbcTemplate.update(
+            "INSERT INTO appointments (id, customer_id, barber_profile_id, service_id, appointment_date, " +
+            "start_time, end_time, status, total_price, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 'CONFIRMED', 100, CURRENT_TIMESTAMP)",
+            IMPORTED_IDS.incrementAndGet(), customerId, barberProfileId, serviceId, date, start, end);
+    }
+
+    private boolean insertRejected(Long customerId, LocalDate date, LocalTime start, LocalTime end) {
+        try {
+            insert(customerId, date, start, end);
+            return false;
+        } catch (DataIntegrityViolationException ex) {
+            return true;
+        }
+    }
+
+    private List<Boolean> runConcurrently(List<Callable<Boolean>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (Callable<Boolean> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> createCustomers(int count) {
+        List<User> customers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            customers.add(User.builder()
+                .name("Load Test")
+                .email("load-" + UUID.randomUUID() + "@test.com")
+                .passwordHash("not-used")
+                .role(Role.CUSTOMER)
+                .build());
+        }
+        return userRepository.saveAll(customers).stream().map(User::getId).toList();
+    }
+
+    /**
+     * Approved barbers open Monday to Saturday 09:00-19:00, with one service of {@link #LOAD_SERVICE_MINUTES}
+     */
+    private List<Long> createBarbers(int count) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        return transaction.execute(status -> {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                User owner = userRepository.save(User.builder()
+                    .name("Load Barber")
+                    .email("load-barber-" + UUID.randomUUID() + "@test.com")
+                    .passwordHash("not-used")
+                    .role(Role.BARBER)
+                    .build());
+                BarberProfile profile = barberProfileRepository.save(BarberProfile.builder()
+                    .user(owner)
+                    .shopName("Yük Testi " + i)
+                    .address("Test Sokak " + i)
+                    .city("İstanbul")
+                    .district("Kadıköy")
+                    .status(BarberStatus.APPROVED)
+                    .build());
+                serviceRepository.save(com.barber.entity.Service.builder()
+                    .barberProfile(profile)
+                    .name("Saç Kesimi")
+                    .durationMinutes(LOAD_SERVICE_MINUTES)
+                    .price(BigDecimal.valueOf(150))
+                    .build());
+                List<WorkingHours> week = new ArrayList<>();
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    boolean isClosed = day == DayOfWeek.SUNDAY;
+                    week.add(WorkingHours.builder()
+                        .barberProfile(profile)
+                        .dayOfWeek(day)
+                        .startTime(isClosed ? null : LocalTime.of(9, 0))
+                        .endTime(isClosed ? null : LocalTime.of(19, 0))
+                        .isClosed(isClosed)
+                        .build());
+                }
+                workingHoursRepository.saveAll(week);
+                ids.add(profile.getId());
+            }
+            return ids;
+        });
+    }
+
+    private static long percentileMillis(List<Long> sortedNanos, int percentile) {
+        int index = Math.max(0, (int) Math.ceil(percentile / 100.0 * sortedNanos.size()) - 1);
+        return sortedNanos.get(index) / 1_000_000;
+    }
+
+    private int activeAppointments(LocalDate date) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM appointments WHERE barber_profile_id = ? AND appointment_date = ? " +
+            "AND status IN ('PENDING', 'CONFIRMED')", Integer.class, barberProfileId, date);
+    }
+
+    private void assertNoOverlaps() {
+        Integer overlaps = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM appointments a JOIN appointments b " +
+            "ON a.barber_profile_id = b.barber_profile_id AND a.id < b.id " +
+            "AND a.appointment_date = b.appointment_date " +
+            "AND a.start_time < b.end_time AND b.start_time < a.end_time " +
+            "WHERE a.status IN ('PENDING', 'CONFIRMED') AND b.status IN ('PENDING', 'CONFIRMED')",
+            Integer.class);
+        assertThat(overlaps).isZero();
+    }
+
+    /**
+     * A future Monday to Friday, distinct per test so the tests do not share barber days
+     */
+    private static LocalDate weekday(int index) {
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        return monday.plusWeeks(index / 5 + 1L).plusDays(index % 5);
+    }
+}